@@ -0,0 +1,51 @@
+// /api/tutoring/sent 부하 테스트 (k6)
+//
+// 같은 조건으로 두 번 실행해 처리량과 p95를 비교한다.
+//   ./gradlew bootRun --args='--spring.profiles.active=prod'
+//   ./gradlew bootRun --args='--spring.profiles.active=prod,vthreads'
+//   k6 run -e BASE_URL=http://localhost:8080 -e USERNAME=tester -e PASSWORD=1234 loadtest/tutoring-sent.js
+//
+// 플랫폼 스레드 모드는 Tomcat 기본 워커(200)를 넘는 동시 요청부터 대기열이 쌓이므로
+// VU를 그 이상으로 올렸을 때 두 모드의 차이가 드러난다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+  scenarios: {
+    sent: {
+      executor: 'ramping-vus',
+      startVUs: 50,
+      stages: [
+        { duration: '30s', target: 200 },
+        { duration: '30s', target: 800 },
+        { duration: '1m', target: 800 },
+        { duration: '15s', target: 0 },
+      ],
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+// 로그인 제한에 걸리지 않도록 토큰은 한 번만 발급받아 모든 VU가 공유한다
+export function setup() {
+  const res = http.post(`${BASE_URL}/auth/login`, JSON.stringify({
+    username: __ENV.USERNAME,
+    password: __ENV.PASSWORD,
+  }), { headers: { 'Content-Type': 'application/json' } });
+
+  check(res, { 'login 200': (r) => r.status === 200 });
+  return { accessToken: res.json('data.accessToken') };
+}
+
+export default function (data) {
+  const res = http.get(`${BASE_URL}/api/tutoring/sent?page=0&size=20`, {
+    headers: { Authorization: `Bearer ${data.accessToken}` },
+  });
+
+  check(res, { 'sent 200': (r) => r.status === 200 });
+}
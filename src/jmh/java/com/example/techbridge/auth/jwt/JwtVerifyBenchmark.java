@@ -0,0 +1,80 @@
+package com.example.techbridge.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 필터가 요청마다 수행하는 서명 검증(parseSignedClaims) 비용을 알고리즘별로 비교한다.
+ * <pre>
+ * ./gradlew jmh
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerifyBenchmark {
+
+    private JwtParser hs256Parser;
+    private JwtParser eddsaParser;
+    private JwtParser es256Parser;
+    private String hs256Token;
+    private String eddsaToken;
+    private String es256Token;
+
+    @Setup
+    public void setUp() {
+        SecretKey secretKey = Jwts.SIG.HS256.key().build();
+        KeyPair edKeyPair = Jwts.SIG.Ed25519.keyPair().build();
+        KeyPair ecKeyPair = Jwts.SIG.ES256.keyPair().build();
+
+        hs256Parser = Jwts.parser().verifyWith(secretKey).build();
+        eddsaParser = Jwts.parser().verifyWith(edKeyPair.getPublic()).build();
+        es256Parser = Jwts.parser().verifyWith(ecKeyPair.getPublic()).build();
+
+        hs256Token = token().signWith(secretKey).compact();
+        eddsaToken = token().signWith(edKeyPair.getPrivate()).compact();
+        es256Token = token().signWith(ecKeyPair.getPrivate()).compact();
+    }
+
+    @Benchmark
+    public Claims hs256() {
+        return hs256Parser.parseSignedClaims(hs256Token).getPayload();
+    }
+
+    @Benchmark
+    public Claims eddsa() {
+        return eddsaParser.parseSignedClaims(eddsaToken).getPayload();
+    }
+
+    @Benchmark
+    public Claims es256() {
+        return es256Parser.parseSignedClaims(es256Token).getPayload();
+    }
+
+    // JwtTokenProvider.generateToken과 같은 클레임 구성
+    private static JwtBuilder token() {
+        Date now = new Date();
+        return Jwts.builder()
+            .id(UUID.randomUUID().toString())
+            .subject("1")
+            .claim("role", "STUDENT")
+            .claim("ver", 0L)
+            .issuedAt(now)
+            .expiration(new Date(now.getTime() + Duration.ofMinutes(30).toMillis()));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.techbridge.domain.chat;
+
+import com.example.techbridge.domain.chat.model.Message;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 저장 처리량(messages/sec). 레코드마다 save하던 방식과 poll 단위 unordered bulk insert를 비교한다.
+ * <pre>
+ * MONGO_URI=mongodb://localhost:27017 ./gradlew jmh -Pjmh.includes=MessagePersistenceBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MessagePersistenceBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+
+    @Setup
+    public void setUp() {
+        String uri = System.getenv().getOrDefault("MONGO_URI", "mongodb://localhost:27017");
+        client = MongoClients.create(uri);
+        mongoTemplate = new MongoTemplate(client, "chat_benchmark");
+    }
+
+    @Setup(Level.Iteration)
+    public void clean() {
+        mongoTemplate.dropCollection(Message.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mongoTemplate.getDb().drop();
+        client.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void saveEach() {
+        for (Message message : batch()) {
+            mongoTemplate.save(message);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void bulkInsert() {
+        mongoTemplate.bulkOps(BulkMode.UNORDERED, Message.class)
+                .insert(batch())
+                .execute();
+    }
+
+    private static List<Message> batch() {
+        List<Message> messages = new ArrayList<>(BATCH_SIZE);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            messages.add(Message.builder()
+                    .senderId((long) (i % 2))
+                    .roomId(1L)
+                    .content("benchmark message " + i)
+                    .sentAt(now)
+                    .type(Message.MessageType.CHAT)
+                    .build());
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.techbridge.domain.notification;
+
+import com.example.techbridge.domain.notification.dto.NotificationDto;
+import com.example.techbridge.domain.notification.repository.NotificationCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 본문 직렬화 비용(ns/op)과 크기. 이전 저장 방식(GenericJackson2JsonRedisSerializer, @class 포함), 일반 JSON, binary v1을 비교한다.
+ * 크기는 Setup에서 한 번 출력한다.
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=NotificationCodecBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NotificationCodecBenchmark {
+
+    private GenericJackson2JsonRedisSerializer legacy;
+    private NotificationCodec json;
+    private NotificationCodec binary;
+    private NotificationDto notification;
+
+    private byte[] legacyBytes;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        legacy = new GenericJackson2JsonRedisSerializer(objectMapper.copy());
+        json = new NotificationCodec(objectMapper, NotificationCodec.Format.JSON);
+        binary = new NotificationCodec(objectMapper, NotificationCodec.Format.BINARY);
+
+        notification = NotificationDto.builder()
+                .notificationId(UUID.randomUUID().toString())
+                .userId(1024L)
+                .senderId(2048L)
+                .roomId(1_735_689_600_123L)
+                .title("새 메시지")
+                .message("User2048: 내일 수업 시간 확인 부탁드려요")
+                .type(NotificationDto.NotificationType.NEW_MESSAGE)
+                .createdAt(LocalDateTime.now())
+                .senderName("User2048")
+                .build();
+
+        legacyBytes = legacy.serialize(notification);
+        jsonBytes = json.encode(notification);
+        binaryBytes = binary.encode(notification);
+    }
+
+    @Benchmark
+    public byte[] encodeLegacy() {
+        return legacy.serialize(notification);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() {
+        return json.encode(notification);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return binary.encode(notification);
+    }
+
+    @Benchmark
+    public Object decodeLegacy() {
+        return legacy.deserialize(legacyBytes);
+    }
+
+    @Benchmark
+    public NotificationDto decodeJson() {
+        return json.decode(jsonBytes);
+    }
+
+    @Benchmark
+    public NotificationDto decodeBinary() {
+        return binary.decode(binaryBytes);
+    }
+}
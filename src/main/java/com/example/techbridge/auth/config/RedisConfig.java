@@ -15,6 +15,9 @@ public class RedisConfig {
         template.setConnectionFactory(connectionFactory);
         template.setKeySerializer(new StringRedisSerializer());
         template.setValueSerializer(new StringRedisSerializer());
+        // HASH 필드와 값도 문자열 그대로 읽고 쓴다. 기본값(JDK 직렬화)이면 Lua 스크립트가 쓴 필드를 opsForHash로 찾지 못한다
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(new StringRedisSerializer());
         return template;
     }
 }
@@ -6,7 +6,12 @@ import com.example.techbridge.auth.dto.TokenResponse;
 import com.example.techbridge.auth.exception.InvalidTokenException;
 import com.example.techbridge.auth.exception.RefreshTokenNotFoundException;
 import com.example.techbridge.auth.jwt.JwtTokenProvider;
+import com.example.techbridge.auth.jwt.VerifiedToken;
 import com.example.techbridge.auth.repository.RefreshTokenRepository;
+import com.example.techbridge.auth.repository.RefreshTokenRepository.ConsumeResult;
+import com.example.techbridge.auth.service.ClientIpResolver;
+import com.example.techbridge.auth.service.LoginRateLimiter;
+import com.example.techbridge.auth.service.PasswordHashingService;
 import com.example.techbridge.auth.service.TokenBlacklistService;
 import com.example.techbridge.domain.member.entity.Member;
 import com.example.techbridge.domain.member.exception.InvalidMemberPasswordException;
@@ -14,89 +19,130 @@ import com.example.techbridge.domain.member.exception.MemberNotFoundException;
 import com.example.techbridge.domain.member.repository.MemberRepository;
 import com.example.techbridge.global.common.CommonResponse;
 import jakarta.servlet.http.HttpServletRequest;
-import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/auth")
 public class AuthController {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
     private final TokenBlacklistService tokenBlacklistService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final ClientIpResolver clientIpResolver;
+
+    @GetMapping("/jwks")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok(jwtTokenProvider.getJwkSet());
+    }
 
     @PostMapping("/login")
-    public CommonResponse<TokenResponse> login(@RequestBody LoginRequest request) {
+    public CommonResponse<TokenResponse> login(@RequestBody LoginRequest request,
+        HttpServletRequest httpRequest) {
+        loginRateLimiter.acquire(request.getUsername(), clientIpResolver.resolve(httpRequest));
+
         Member member = memberRepository.findByUsername(request.getUsername())
             .orElseThrow(MemberNotFoundException::new);
 
-        if (!passwordEncoder.matches(request.getPassword(), member.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), member.getPassword())) {
             throw new InvalidMemberPasswordException();
         }
 
+        String rehashed = passwordHashingService.rehashIfNeeded(request.getPassword(),
+            member.getPassword());
+        if (rehashed != null) {
+            member.encodePassword(rehashed);
+            memberRepository.save(member);
+        }
+
+        loginRateLimiter.reset(request.getUsername());
+
+        long version = tokenBlacklistService.currentVersion(member.getId());
+        String familyId = UUID.randomUUID().toString();
         String accessToken = jwtTokenProvider.generateAccessToken(member.getId(),
-            member.getRole().name());
+            member.getRole().name(), version);
         String refreshToken = jwtTokenProvider.generateRefreshToken(member.getId(),
-            member.getRole().name());
+            member.getRole().name(), version, familyId);
 
-        refreshTokenRepository.save(member.getId(), refreshToken);
+        refreshTokenRepository.save(member.getId(), familyId, refreshToken);
 
         return CommonResponse.success(new TokenResponse(accessToken, refreshToken));
     }
 
     @PostMapping("/refresh")
     public CommonResponse<TokenResponse> refresh(@RequestBody RefreshRequest request) {
-        if (!jwtTokenProvider.isValid(request.getRefreshToken())) {
-            throw new InvalidTokenException();
-        }
+        VerifiedToken refreshToken = verifyRefreshToken(request.getRefreshToken());
 
-        Long memberId = jwtTokenProvider.extractMemberId(request.getRefreshToken());
-        String savedToken = refreshTokenRepository.findByMemberId(memberId)
-            .orElseThrow(RefreshTokenNotFoundException::new);
-
-        if (!savedToken.equals(request.getRefreshToken())) {
+        if (tokenBlacklistService.isRevoked(refreshToken)) {
             throw new InvalidTokenException();
         }
 
-        Member member = memberRepository.findById(memberId)
+        Member member = memberRepository.findById(refreshToken.getMemberId())
             .orElseThrow(MemberNotFoundException::new);
 
-        String newAccessToken = jwtTokenProvider.generateAccessToken(member.getId(),
-            member.getRole().toString());
+        String role = member.getRole().toString();
+        String newAccessToken = jwtTokenProvider.generateAccessToken(member.getId(), role,
+            refreshToken.getVersion());
+        String newRefreshToken = jwtTokenProvider.generateRefreshToken(member.getId(), role,
+            refreshToken.getVersion(), refreshToken.getFamilyId());
+
+        ConsumeResult result = refreshTokenRepository.rotate(member.getId(),
+            refreshToken.getFamilyId(), request.getRefreshToken(), newRefreshToken);
+        checkConsumed(result, refreshToken);
 
-        return CommonResponse.success(new TokenResponse(newAccessToken, request.getRefreshToken()));
+        return CommonResponse.success(new TokenResponse(newAccessToken, newRefreshToken));
     }
 
     @PostMapping("/logout")
-    public CommonResponse<Void> logout(@RequestBody RefreshRequest request, HttpServletRequest httpRequest) {
-        if (!jwtTokenProvider.isValid(request.getRefreshToken())) {
-            throw new InvalidTokenException();
+    public CommonResponse<Void> logout(@RequestBody RefreshRequest request,
+        @RequestAttribute(name = VerifiedToken.REQUEST_ATTRIBUTE, required = false) VerifiedToken accessToken) {
+        VerifiedToken refreshToken = verifyRefreshToken(request.getRefreshToken());
+
+        ConsumeResult result = refreshTokenRepository.remove(refreshToken.getMemberId(),
+            refreshToken.getFamilyId(), request.getRefreshToken());
+        checkConsumed(result, refreshToken);
+
+        if (accessToken != null) {
+            tokenBlacklistService.revoke(accessToken);
         }
 
-        Long memberId = jwtTokenProvider.extractMemberId(request.getRefreshToken());
-        String savedToken = refreshTokenRepository.findByMemberId(memberId)
-            .orElseThrow(RefreshTokenNotFoundException::new);
+        return CommonResponse.success(null);
+    }
+
+    private VerifiedToken verifyRefreshToken(String token) {
+        VerifiedToken refreshToken = jwtTokenProvider.verify(token)
+            .orElseThrow(InvalidTokenException::new);
 
-        if (!savedToken.equals(request.getRefreshToken())) {
+        // 패밀리 id가 없는 토큰(Access Token, 이전 형식)은 재로그인이 필요하다
+        if (refreshToken.getFamilyId() == null) {
             throw new InvalidTokenException();
         }
+        return refreshToken;
+    }
 
-        refreshTokenRepository.delete(memberId);
-        String accessToken = jwtTokenProvider.resolveBearer(httpRequest);
-        if (accessToken != null && jwtTokenProvider.isValid(accessToken)) {
-            String jti = jwtTokenProvider.getJti(accessToken);
-            Duration ttl = jwtTokenProvider.getRemainingTTL(accessToken);
-            tokenBlacklistService.blacklist(jti, ttl);
+    private void checkConsumed(ConsumeResult result, VerifiedToken refreshToken) {
+        if (result == ConsumeResult.NOT_FOUND) {
+            throw new RefreshTokenNotFoundException();
         }
 
-        return CommonResponse.success(null);
+        if (result == ConsumeResult.REUSED) {
+            log.warn("Refresh Token 재사용 감지, 세션 폐기: memberId={}, familyId={}",
+                refreshToken.getMemberId(), refreshToken.getFamilyId());
+            throw new InvalidTokenException();
+        }
     }
 }
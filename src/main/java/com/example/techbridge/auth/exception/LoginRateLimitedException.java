@@ -0,0 +1,11 @@
+package com.example.techbridge.auth.exception;
+
+import com.example.techbridge.global.exception.BusinessException;
+import com.example.techbridge.global.exception.ErrorCode;
+
+public class LoginRateLimitedException extends BusinessException {
+
+    public LoginRateLimitedException() {
+        super(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.techbridge.auth.exception;
+
+import com.example.techbridge.global.exception.BusinessException;
+import com.example.techbridge.global.exception.ErrorCode;
+
+public class PasswordHashingBusyException extends BusinessException {
+
+    public PasswordHashingBusyException() {
+        super(ErrorCode.PASSWORD_HASHING_BUSY);
+    }
+}
@@ -3,6 +3,7 @@ package com.example.techbridge.auth.jwt;
 import com.example.techbridge.auth.dto.LoginMember;
 import com.example.techbridge.auth.service.TokenBlacklistService;
 import com.example.techbridge.domain.member.entity.Member.Role;
+import com.example.techbridge.global.security.PermitAllRoutes;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,22 +15,29 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-    private final List<String> whiteList;
+    private final PermitAllRoutes permitAllRoutes;
     private final TokenBlacklistService blacklistService;
 
     public JwtAuthenticationFilter(JwtTokenProvider tokenProvider,
         TokenBlacklistService blacklistService,
-        List<String> whiteList) {
+        PermitAllRoutes permitAllRoutes) {
         this.tokenProvider = tokenProvider;
         this.blacklistService = blacklistService;
-        this.whiteList = whiteList;
+        this.permitAllRoutes = permitAllRoutes;
+    }
+
+    /**
+     * 인증 없이 허용된 경로는 헤더 파싱과 서명 검증을 모두 건너뛴다.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return permitAllRoutes.matches(request);
     }
 
     @Override
@@ -46,16 +54,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        if (token != null && tokenProvider.isValid(token)) {
-            String jti = tokenProvider.getJti(token);
-            if (blacklistService.isBlacklisted(jti)) {
+        VerifiedToken verified = (token != null) ? tokenProvider.verify(token).orElse(null) : null;
+        if (verified != null) {
+            if (blacklistService.isRevoked(verified)) {
                 response.sendError(HttpStatus.UNAUTHORIZED.value(), "토큰이 취소되었습니다.");
                 return;
             }
 
-            Long memberId = tokenProvider.extractMemberId(token);
-            Role role = tokenProvider.extractRole(token);
-            LoginMember loginMember = new LoginMember(memberId, role);
+            LoginMember loginMember = verified.toLoginMember();
+            Role role = verified.getRole();
 
             UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(
@@ -63,10 +70,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     null,
                     List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
 
-            authentication.setDetails(
-                new WebAuthenticationDetailsSource().buildDetails(request));
-
             SecurityContextHolder.getContext().setAuthentication(authentication);
+            request.setAttribute(VerifiedToken.REQUEST_ATTRIBUTE, verified);
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,160 @@
+package com.example.techbridge.auth.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwks;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비대칭 서명 키 묶음. 디렉터리 구성은 다음과 같다.
+ * <pre>
+ * active            현재 서명에 쓰는 kid 한 줄
+ * {kid}.pub.pem     검증용 공개키 (X.509 SubjectPublicKeyInfo)
+ * {kid}.pem         서명용 개인키 (PKCS#8), active kid만 필요
+ * </pre>
+ * 이전 키의 공개키를 남겨두면 회전 후에도 기존 토큰이 만료될 때까지 검증된다. 파일이 바뀌면 {@link #reloadIfChanged()}가 재시작 없이 다시
+ * 읽는다.
+ */
+@Slf4j
+class JwtKeyRing extends LocatorAdapter<Key> {
+
+    private static final String ACTIVE_FILE = "active";
+    private static final String PUBLIC_SUFFIX = ".pub.pem";
+    private static final String PRIVATE_SUFFIX = ".pem";
+
+    private final Path directory;
+    private final String keyAlgorithm;
+    private final String jwsAlgorithm;
+    private volatile Snapshot snapshot;
+
+    JwtKeyRing(Path directory, String jwsAlgorithm) {
+        this.directory = directory;
+        this.jwsAlgorithm = jwsAlgorithm;
+        this.keyAlgorithm = switch (jwsAlgorithm) {
+            case "EdDSA" -> "Ed25519";
+            case "ES256" -> "EC";
+            default -> throw new IllegalArgumentException("지원하지 않는 서명 알고리즘: " + jwsAlgorithm);
+        };
+        this.snapshot = load();
+    }
+
+    JwtBuilder sign(JwtBuilder builder) {
+        Snapshot current = snapshot;
+        return builder.header().keyId(current.activeKid).and()
+            .signWith(current.activePrivateKey);
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        return (kid != null) ? snapshot.publicKeys.get(kid) : null;
+    }
+
+    /**
+     * 디렉터리의 파일 이름과 수정 시각 목록이 바뀌었으면 다시 읽는다. 최근 수정 시각만 보면 이전 공개키 파일을 지웠을 때를 알아챌 수 없다.
+     */
+    void reloadIfChanged() {
+        Map<String, Long> listing = listing();
+        if (listing.equals(snapshot.listing)) {
+            return;
+        }
+
+        try {
+            Snapshot reloaded = load();
+            snapshot = reloaded;
+            log.info("JWT key ring reloaded: active={}, keys={}", reloaded.activeKid,
+                reloaded.publicKeys.keySet());
+        } catch (RuntimeException e) {
+            log.error("JWT key ring reload failed, keeping previous keys: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서비스가 직접 검증할 수 있도록 공개키를 JWK Set 형태로 반환한다.
+     */
+    Map<String, Object> toJwkSet() {
+        List<Map<String, Object>> keys = new ArrayList<>();
+        snapshot.publicKeys.forEach((kid, publicKey) -> keys.add(new LinkedHashMap<>(
+            Jwks.builder()
+                .key(publicKey)
+                .id(kid)
+                .algorithm(jwsAlgorithm)
+                .publicKeyUse("sig")
+                .build())));
+        return Map.of("keys", keys);
+    }
+
+    private Snapshot load() {
+        Map<String, Long> listing = listing();
+        try {
+            String activeKid = Files.readString(directory.resolve(ACTIVE_FILE)).trim();
+            KeyFactory keyFactory = KeyFactory.getInstance(keyAlgorithm);
+
+            Map<String, PublicKey> publicKeys = new LinkedHashMap<>();
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + PUBLIC_SUFFIX)) {
+                for (Path file : files) {
+                    String name = file.getFileName().toString();
+                    String kid = name.substring(0, name.length() - PUBLIC_SUFFIX.length());
+                    publicKeys.put(kid, keyFactory.generatePublic(new X509EncodedKeySpec(readPem(file))));
+                }
+            }
+
+            if (!publicKeys.containsKey(activeKid)) {
+                throw new IllegalStateException("active 키의 공개키가 없습니다: " + activeKid);
+            }
+
+            PrivateKey privateKey = keyFactory.generatePrivate(
+                new PKCS8EncodedKeySpec(readPem(directory.resolve(activeKid + PRIVATE_SUFFIX))));
+
+            return new Snapshot(activeKid, privateKey, Map.copyOf(publicKeys), listing);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 키를 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private Map<String, Long> listing() {
+        Map<String, Long> listing = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                listing.put(file.getFileName().toString(), Files.getLastModifiedTime(file).toMillis());
+            }
+        } catch (IOException e) {
+            log.warn("JWT key directory scan failed: {}", e.getMessage());
+        }
+        return listing;
+    }
+
+    private static byte[] readPem(Path file) throws IOException {
+        String base64 = Files.readString(file, StandardCharsets.US_ASCII)
+            .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+            .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+    private record Snapshot(String activeKid, PrivateKey activePrivateKey,
+                            Map<String, PublicKey> publicKeys, Map<String, Long> listing) {
+
+    }
+}
@@ -3,6 +3,7 @@ package com.example.techbridge.auth.jwt;
 import com.example.techbridge.domain.member.entity.Member.Role;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
@@ -10,58 +11,106 @@ import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
+import java.nio.file.Path;
 import java.security.Key;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
 
     private static final long ACCESS_TOKEN_EXP = Duration.ofMinutes(30).toMillis();
     private static final long REFRESH_TOKEN_EXP = Duration.ofDays(7).toMillis();
 
+    private final VerifiedTokenCache tokenCache;
+
     @Value("${jwt.secret}")
     private String secret;
+    @Value("${jwt.signing.algorithm:HS256}")
+    private String algorithm;
+    @Value("${jwt.signing.key-dir:}")
+    private String keyDir;
     private Key key;
+    private JwtKeyRing keyRing;
     private JwtParser parser;
 
     @PostConstruct
     private void init() {
-        byte[] bytes = Decoders.BASE64.decode(secret);
-        this.key = Keys.hmacShaKeyFor(bytes);
+        if ("HS256".equals(algorithm)) {
+            byte[] bytes = Decoders.BASE64.decode(secret);
+            this.key = Keys.hmacShaKeyFor(bytes);
+            this.parser = Jwts.parser()
+                .setSigningKey(key)
+                .build();
+            return;
+        }
+
+        this.keyRing = new JwtKeyRing(Path.of(keyDir), algorithm);
         this.parser = Jwts.parser()
-            .setSigningKey(key)
+            .keyLocator(keyRing)
             .build();
     }
 
-    public String generateAccessToken(Long memberId, String role) {
-        return generateToken(memberId, role, ACCESS_TOKEN_EXP);
+    @Scheduled(fixedDelayString = "${jwt.signing.reload-interval:60000}")
+    public void reloadKeys() {
+        if (keyRing != null) {
+            keyRing.reloadIfChanged();
+        }
     }
 
-    public String generateRefreshToken(Long memberId, String role) {
-        return generateToken(memberId, role, REFRESH_TOKEN_EXP);
+    /**
+     * 비대칭 모드의 공개키 JWK Set. HMAC 모드에서는 공개할 키가 없으므로 비어 있다.
+     */
+    public Map<String, Object> getJwkSet() {
+        return (keyRing != null) ? keyRing.toJwkSet() : Map.of("keys", List.of());
     }
 
-    private String generateToken(Long memberId, String role, long validity) {
+    public String generateAccessToken(Long memberId, String role, long version) {
+        return generateToken(memberId, role, version, null, ACCESS_TOKEN_EXP);
+    }
+
+    /**
+     * familyId는 로그인 한 번(기기 세션)을 나타내며 재발급 후에도 유지된다.
+     */
+    public String generateRefreshToken(Long memberId, String role, long version,
+        String familyId) {
+        return generateToken(memberId, role, version, familyId, REFRESH_TOKEN_EXP);
+    }
+
+    private String generateToken(Long memberId, String role, long version, String familyId,
+        long validity) {
         Date now = new Date();
         String jti = UUID.randomUUID().toString();
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
             .setId(jti)
             .setSubject(memberId.toString())
             .claim("role", role)
+            .claim("ver", version)
             .setIssuedAt(now)
-            .setExpiration(new Date(now.getTime() + validity))
-            .signWith(key)
-            .compact();
+            .setExpiration(new Date(now.getTime() + validity));
+
+        if (familyId != null) {
+            builder.claim("fid", familyId);
+        }
+
+        return (keyRing != null)
+            ? keyRing.sign(builder).compact()
+            : builder.signWith(key).compact();
     }
 
 
@@ -69,6 +118,47 @@ public class JwtTokenProvider {
         return parser.parseSignedClaims(token).getPayload();
     }
 
+    /**
+     * 서명을 한 번만 검증하고 인증에 필요한 클레임을 모두 꺼낸다. 유효하지 않으면 빈 값을 반환한다.
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            log.warn("JWT validation failed: empty token");
+            return Optional.empty();
+        }
+
+        VerifiedToken cached = tokenCache.get(token);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        try {
+            Claims claims = getClaims(token);
+            String role = claims.get("role", String.class);
+            if (role == null) {
+                log.warn("Invalid JWT: missing role claim");
+                return Optional.empty();
+            }
+
+            Long version = claims.get("ver", Long.class);
+            VerifiedToken verified = new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                Role.valueOf(role),
+                claims.getId(),
+                claims.getExpiration().toInstant(),
+                (version != null) ? version : 0L,
+                claims.get("fid", String.class));
+            tokenCache.put(token, verified);
+            return Optional.of(verified);
+        } catch (ExpiredJwtException e) {
+            log.warn("JWT expired: {}", e.getMessage());
+            return Optional.empty();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Invalid JWT: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     public Long extractMemberId(String token) {
         return Long.parseLong(getClaims(token).getSubject());
     }
@@ -107,21 +197,11 @@ public class JwtTokenProvider {
     }
 
     public String getJti(String token) {
-        return Jwts.parser()
-            .setSigningKey(key)
-            .build()
-            .parseClaimsJws(token)
-            .getBody()
-            .getId();
+        return getClaims(token).getId();
     }
 
     public Duration getRemainingTTL(String token) {
-        Date exp = Jwts.parser()
-            .setSigningKey(key)
-            .build()
-            .parseClaimsJws(token)
-            .getBody()
-            .getExpiration();
+        Date exp = getClaims(token).getExpiration();
         return Duration.between(Instant.now(), exp.toInstant());
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.example.techbridge.auth.jwt;
+
+import com.example.techbridge.auth.dto.LoginMember;
+import com.example.techbridge.domain.member.entity.Member.Role;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서명 검증을 마친 토큰의 클레임. 요청당 한 번만 파싱하고 필터와 컨트롤러가 같은 인스턴스를 공유한다.
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+    public static final String REQUEST_ATTRIBUTE = "verifiedToken";
+
+    private final Long memberId;
+    private final Role role;
+    private final String jti;
+    private final Instant expiration;
+    private final long version;
+    // Refresh Token에만 있다
+    private final String familyId;
+
+    public LoginMember toLoginMember() {
+        return new LoginMember(memberId, role);
+    }
+
+    public Duration getRemainingTTL() {
+        return Duration.between(Instant.now(), expiration);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.techbridge.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증이 끝난 토큰을 토큰 다이제스트(SHA-256) 기준으로 보관한다. 항목은 토큰 만료 시각에 제거되고 최대 크기를 넘으면 W-TinyLFU 정책으로
+ * 밀려난다. 블랙리스트 확인은 캐시와 무관하게 매 요청 수행된다.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.enabled:false}") boolean enabled,
+        @Value("${jwt.cache.maximum-size:100000}") long maximumSize) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new UntilTokenExpiry())
+            .recordStats()
+            .build();
+    }
+
+    public VerifiedToken get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        return cache.getIfPresent(digest(token));
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        if (!enabled) {
+            return;
+        }
+        cache.put(digest(token), verified);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Scheduled(fixedRateString = "${jwt.cache.stats-log-interval:300000}")
+    public void logStats() {
+        if (!enabled) {
+            return;
+        }
+        CacheStats stats = cache.stats();
+        log.info("token cache: size={}, hit={}, miss={}, eviction={}, hitRate={}",
+            cache.estimatedSize(), stats.hitCount(), stats.missCount(), stats.evictionCount(),
+            String.format("%.3f", stats.hitRate()));
+    }
+
+    private ByteBuffer digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class UntilTokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+            return Math.max(0, value.getRemainingTTL().toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime,
+            long currentDuration) {
+            return Math.max(0, value.getRemainingTTL().toNanos());
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
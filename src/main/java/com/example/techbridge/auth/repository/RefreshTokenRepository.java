@@ -1,16 +1,64 @@
 package com.example.techbridge.auth.repository;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
-import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
+/**
+ * 회원별 Refresh Token 세션을 {@code refresh:{memberId}} 해시에 저장한다. 필드는 토큰 패밀리 id(기기 세션), 값은
+ * {@code 다이제스트:만료시각(epoch초)}이며 JWT 원문은 저장하지 않는다. 재발급마다 다이제스트를 교체하고, 이미 교체된 토큰이 다시 들어오면
+ * 탈취로 보고 해당 패밀리를 삭제한다.
+ */
 @Repository
 public class RefreshTokenRepository {
 
     private static final String PREFIX = "refresh:";
     private static final long REFRESH_TOKEN_EXP = Duration.ofDays(7).toMillis();
+    // SHA-256 앞 16바이트, Base64URL 22자
+    private static final int DIGEST_BYTES = 16;
+
+    // 만료된 다른 기기 세션을 정리한 뒤 저장한다
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+        local now = tonumber(ARGV[4])
+        local entries = redis.call('HGETALL', KEYS[1])
+        for i = 1, #entries, 2 do
+          local exp = tonumber(string.match(entries[i + 1], ':(%d+)$'))
+          if exp and exp < now then
+            redis.call('HDEL', KEYS[1], entries[i])
+          end
+        end
+        redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+        redis.call('PEXPIRE', KEYS[1], ARGV[3])
+        return 1
+        """, Long.class);
+
+    // 0: 세션 없음, -1: 재사용 감지(패밀리 삭제), 1: 교체 또는 삭제 완료. ARGV[3]이 비어 있으면 삭제한다
+    private static final RedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>("""
+        local current = redis.call('HGET', KEYS[1], ARGV[1])
+        if not current then
+          return 0
+        end
+        if string.sub(current, 1, #ARGV[2]) ~= ARGV[2] then
+          redis.call('HDEL', KEYS[1], ARGV[1])
+          return -1
+        end
+        if ARGV[3] == '' then
+          redis.call('HDEL', KEYS[1], ARGV[1])
+        else
+          redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+          redis.call('PEXPIRE', KEYS[1], ARGV[4])
+        end
+        return 1
+        """, Long.class);
 
     private final RedisTemplate<String, String> redisTemplate;
 
@@ -18,16 +66,59 @@ public class RefreshTokenRepository {
         this.redisTemplate = redisTemplate;
     }
 
-    public void save(Long memberId, String refreshToken) {
-        redisTemplate.opsForValue().set(PREFIX + memberId, refreshToken, REFRESH_TOKEN_EXP, TimeUnit.MILLISECONDS);
+    public void save(Long memberId, String familyId, String refreshToken) {
+        redisTemplate.execute(SAVE_SCRIPT, List.of(PREFIX + memberId), familyId,
+            entry(refreshToken), String.valueOf(REFRESH_TOKEN_EXP),
+            String.valueOf(Instant.now().getEpochSecond()));
+    }
+
+    /**
+     * 제시된 토큰이 패밀리의 현재 토큰이면 새 토큰으로 교체한다.
+     */
+    public ConsumeResult rotate(Long memberId, String familyId, String presentedToken,
+        String newToken) {
+        return consume(memberId, familyId, presentedToken, entry(newToken));
     }
 
-    public Optional<String> findByMemberId(Long memberId) {
-        String val = redisTemplate.opsForValue().get(PREFIX + memberId);
-        return Optional.ofNullable(val);
+    /**
+     * 제시된 토큰이 패밀리의 현재 토큰이면 해당 기기 세션만 삭제한다.
+     */
+    public ConsumeResult remove(Long memberId, String familyId, String presentedToken) {
+        return consume(memberId, familyId, presentedToken, "");
     }
 
-    public void delete(Long memberId) {
+    public void deleteAll(Long memberId) {
         redisTemplate.delete(PREFIX + memberId);
     }
+
+    private ConsumeResult consume(Long memberId, String familyId, String presentedToken,
+        String newEntry) {
+        Long result = redisTemplate.execute(CONSUME_SCRIPT, List.of(PREFIX + memberId), familyId,
+            digest(presentedToken), newEntry, String.valueOf(REFRESH_TOKEN_EXP));
+
+        if (result == null || result == 0L) {
+            return ConsumeResult.NOT_FOUND;
+        }
+        return (result > 0) ? ConsumeResult.OK : ConsumeResult.REUSED;
+    }
+
+    private static String entry(String refreshToken) {
+        long expiresAt = Instant.now().plusMillis(REFRESH_TOKEN_EXP).getEpochSecond();
+        return digest(refreshToken) + ":" + expiresAt;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Arrays.copyOf(hash, DIGEST_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public enum ConsumeResult {
+        OK, NOT_FOUND, REUSED
+    }
 }
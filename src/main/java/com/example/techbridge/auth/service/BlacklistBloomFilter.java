@@ -0,0 +1,106 @@
+package com.example.techbridge.auth.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 블랙리스트 jti용 노드 로컬 Bloom 필터. 만료 시각 구간(window)별로 비트 배열을 따로 두고, 구간의 모든 토큰이 만료되면 배열을 통째로 버려서
+ * 크기가 무한히 커지지 않게 한다. 거짓 양성은 Redis 조회로 확인하고, 거짓 음성은 없다.
+ */
+class BlacklistBloomFilter {
+
+    private final long windowMillis;
+    private final int bitMask;
+    private final int words;
+    private final int hashCount;
+    private final ConcurrentSkipListMap<Long, AtomicLongArray> windows = new ConcurrentSkipListMap<>();
+
+    BlacklistBloomFilter(long windowMillis, int expectedInsertionsPerWindow, double falsePositiveRate) {
+        long optimalBits = (long) Math.ceil(-expectedInsertionsPerWindow * Math.log(falsePositiveRate)
+            / (Math.log(2) * Math.log(2)));
+        int bits = Integer.highestOneBit((int) Math.min(Math.max(optimalBits, 64), 1 << 30) - 1) << 1;
+
+        this.windowMillis = windowMillis;
+        this.bitMask = bits - 1;
+        this.words = bits >>> 6;
+        this.hashCount = Math.max(1,
+            (int) Math.round((double) bits / expectedInsertionsPerWindow * Math.log(2)));
+    }
+
+    void add(String jti, long expiresAtMillis, long nowMillis) {
+        if (expiresAtMillis <= nowMillis) {
+            return;
+        }
+
+        AtomicLongArray bits = windows.computeIfAbsent(expiresAtMillis / windowMillis,
+            w -> new AtomicLongArray(words));
+
+        long hash = hash(jti);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            int bit = (h1 + i * h2) & bitMask;
+            int word = bit >>> 6;
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(String jti, long nowMillis) {
+        ConcurrentNavigableMap<Long, AtomicLongArray> live = windows.tailMap(nowMillis / windowMillis, true);
+        if (live.isEmpty()) {
+            return false;
+        }
+
+        long hash = hash(jti);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (AtomicLongArray bits : live.values()) {
+            if (contains(bits, h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void expire(long nowMillis) {
+        windows.headMap(nowMillis / windowMillis).clear();
+    }
+
+    int windowCount() {
+        return windows.size();
+    }
+
+    private boolean contains(AtomicLongArray bits, int h1, int h2) {
+        for (int i = 0; i < hashCount; i++) {
+            int bit = (h1 + i * h2) & bitMask;
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a 64 + murmur3 finalizer
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.techbridge.auth.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청을 보낸 클라이언트 IP를 구한다. 로드 밸런서나 인그레스 뒤에서는 remoteAddr가 프록시 주소이므로, 직접 연결한 상대가 신뢰하는
+ * 프록시({@code login.rate-limit.trusted-proxies})일 때만 X-Forwarded-For를 오른쪽부터 읽어 신뢰하지 않는 첫 주소를 클라이언트로 본다.
+ * 신뢰하지 않는 상대가 보낸 X-Forwarded-For는 위조할 수 있으므로 무시한다.
+ */
+@Component
+public class ClientIpResolver {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+    private static final Pattern IPV4 = Pattern.compile("(\\d{1,3})\\.(\\d{1,3})\\.(\\d{1,3})\\.(\\d{1,3})");
+    private static final Pattern IPV6_CHARS = Pattern.compile("[0-9A-Fa-f:.]+");
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(
+        @Value("${login.rate-limit.trusted-proxies:}") List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies.stream()
+            .map(String::trim)
+            .filter(cidr -> !cidr.isEmpty())
+            .map(IpAddressMatcher::new)
+            .toList();
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        String forwardedFor = request.getHeader(FORWARDED_FOR);
+        if (forwardedFor == null || !isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String[] hops = forwardedFor.split(",");
+        String client = remoteAddr;
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!isIpLiteral(hop)) {
+                // unknown 등 프록시가 주소를 알 수 없었던 경우. 그 앞의 값은 믿을 수 없다
+                break;
+            }
+            client = hop;
+            if (!isTrusted(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrusted(String address) {
+        return isIpLiteral(address) && trustedProxies.stream().anyMatch(proxy -> proxy.matches(address));
+    }
+
+    // 호스트 이름을 IpAddressMatcher에 넘기면 DNS 조회가 일어나므로 IP 표기만 허용한다. cafe, bad.face 같은 이름은 거부한다
+    static boolean isIpLiteral(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        Matcher ipv4 = IPV4.matcher(value);
+        if (ipv4.matches()) {
+            for (int i = 1; i <= 4; i++) {
+                if (Integer.parseInt(ipv4.group(i)) > 255) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        // IPv6는 ':'가 있어야 하고, ':'가 있는 값은 InetAddress가 이름 조회 없이 리터럴로만 해석한다
+        if (value.indexOf(':') < 0 || !IPV6_CHARS.matcher(value).matches()) {
+            return false;
+        }
+        try {
+            InetAddress.getByName(value);
+            return true;
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+}
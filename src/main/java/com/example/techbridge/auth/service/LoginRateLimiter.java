@@ -0,0 +1,152 @@
+package com.example.techbridge.auth.service;
+
+import com.example.techbridge.auth.exception.LoginRateLimitedException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그인 시도를 아이디와 IP 기준으로 제한한다. 슬라이딩 윈도우 카운터(현재 구간 + 이전 구간 x 겹치는 비율)를 Lua 스크립트 한 번으로
+ * 확인/증가시키고, Redis에 접근할 수 없으면 노드 로컬 토큰 버킷으로 대신 제한한다. DB 조회와 비밀번호 해시 전에 호출해야 한다.
+ */
+@Slf4j
+@Service
+public class LoginRateLimiter {
+
+    private static final String PREFIX = "rl:login:";
+
+    // 0: 허용, 1: 아이디 한도 초과, 2: IP 한도 초과
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+        local now = tonumber(ARGV[1])
+        local window = tonumber(ARGV[2])
+        local weight = 1 - (now % window) / window
+        local function estimate(current, previous)
+          return tonumber(redis.call('GET', current) or '0')
+            + tonumber(redis.call('GET', previous) or '0') * weight
+        end
+        if estimate(KEYS[1], KEYS[2]) >= tonumber(ARGV[3]) then
+          return 1
+        end
+        if estimate(KEYS[3], KEYS[4]) >= tonumber(ARGV[4]) then
+          return 2
+        end
+        redis.call('INCR', KEYS[1])
+        redis.call('PEXPIRE', KEYS[1], window * 2)
+        redis.call('INCR', KEYS[3])
+        redis.call('PEXPIRE', KEYS[3], window * 2)
+        return 0
+        """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long windowMillis;
+    private final int maxPerUsername;
+    private final int maxPerIp;
+    private final Cache<String, TokenBucket> localBuckets;
+
+    public LoginRateLimiter(RedisTemplate<String, String> redisTemplate,
+        @Value("${login.rate-limit.window:1m}") Duration window,
+        @Value("${login.rate-limit.max-per-username:10}") int maxPerUsername,
+        @Value("${login.rate-limit.max-per-ip:50}") int maxPerIp) {
+        this.redisTemplate = redisTemplate;
+        this.windowMillis = window.toMillis();
+        this.maxPerUsername = maxPerUsername;
+        this.maxPerIp = maxPerIp;
+        this.localBuckets = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(window.multipliedBy(2))
+            .build();
+    }
+
+    public void acquire(String username, String clientIp) {
+        String user = "u:" + normalize(username);
+        String ip = "ip:" + clientIp;
+
+        long now = System.currentTimeMillis();
+        long current = now / windowMillis;
+        Long result;
+        try {
+            result = redisTemplate.execute(ACQUIRE_SCRIPT,
+                List.of(key(user, current), key(user, current - 1),
+                    key(ip, current), key(ip, current - 1)),
+                String.valueOf(now), String.valueOf(windowMillis),
+                String.valueOf(maxPerUsername), String.valueOf(maxPerIp));
+        } catch (DataAccessException e) {
+            log.warn("로그인 제한 Redis 접근 실패, 로컬 버킷으로 대체: {}", e.getMessage());
+            acquireLocally(user, ip, now);
+            return;
+        }
+
+        if (result != null && result != 0L) {
+            log.info("로그인 시도 제한: {}", (result == 1L) ? user : ip);
+            throw new LoginRateLimitedException();
+        }
+    }
+
+    /**
+     * 로그인에 성공하면 해당 아이디의 실패 누적을 지운다. IP 카운터는 유지한다.
+     */
+    public void reset(String username) {
+        String user = "u:" + normalize(username);
+        long current = System.currentTimeMillis() / windowMillis;
+        try {
+            redisTemplate.delete(List.of(key(user, current), key(user, current - 1)));
+        } catch (DataAccessException e) {
+            log.debug("로그인 제한 초기화 실패: {}", e.getMessage());
+        }
+        localBuckets.invalidate(user);
+    }
+
+    private void acquireLocally(String user, String ip, long now) {
+        TokenBucket userBucket = localBuckets.get(user, k -> new TokenBucket(maxPerUsername));
+        TokenBucket ipBucket = localBuckets.get(ip, k -> new TokenBucket(maxPerIp));
+
+        if (!userBucket.tryAcquire(now, windowMillis) || !ipBucket.tryAcquire(now, windowMillis)) {
+            throw new LoginRateLimitedException();
+        }
+    }
+
+    private static String key(String subject, long window) {
+        return PREFIX + subject + ":" + window;
+    }
+
+    private static String normalize(String username) {
+        return (username == null) ? "" : username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 윈도우 길이 동안 capacity개가 채워지는 토큰 버킷.
+     */
+    static final class TokenBucket {
+
+        private final int capacity;
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(int capacity) {
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.lastRefill = System.currentTimeMillis();
+        }
+
+        synchronized boolean tryAcquire(long now, long windowMillis) {
+            long elapsed = Math.max(0, now - lastRefill);
+            tokens = Math.min(capacity, tokens + (double) elapsed * capacity / windowMillis);
+            lastRefill = now;
+
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.techbridge.auth.service;
+
+import com.example.techbridge.auth.exception.PasswordHashingBusyException;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * 비밀번호 해시 연산을 전용 스레드 풀에서 실행한다. 동시에 실행되는 해시는 풀 크기로, 대기 요청은 큐 크기로 제한하고 큐가 가득 차면 기다리지 않고
+ * {@link PasswordHashingBusyException}(503)을 던진다.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+        @Value("${password.hashing.pool-size:0}") int poolSize,
+        @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+        @Value("${password.hashing.timeout:5s}") Duration timeout) {
+        int threads = (poolSize > 0) ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 저장된 해시가 현재 형식/강도보다 약하면 새 해시를 돌려준다. 풀이 포화 상태면 로그인 자체를 막지 않도록 건너뛴다.
+     */
+    public String rehashIfNeeded(String rawPassword, String encodedPassword) {
+        if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return null;
+        }
+
+        try {
+            return encode(rawPassword);
+        } catch (PasswordHashingBusyException e) {
+            log.debug("해시 풀 포화로 비밀번호 재해시를 건너뜁니다.");
+            return null;
+        }
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 해시 풀 포화: active={}, queued={}", executor.getActiveCount(),
+                executor.getQueue().size());
+            throw new PasswordHashingBusyException();
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingBusyException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new PasswordHashingBusyException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
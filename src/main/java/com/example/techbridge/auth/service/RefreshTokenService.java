@@ -1,18 +1,19 @@
 package com.example.techbridge.auth.service;
 
+import com.example.techbridge.auth.repository.RefreshTokenRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
-    private final RedisTemplate<String, String> redisTemplate;
-    private static final String REFRESH_KEY_PREFIX = "refresh:";
+    private final RefreshTokenRepository refreshTokenRepository;
 
+    /**
+     * 회원의 모든 기기 세션을 삭제한다.
+     */
     public void deleteByMemberId(Long memberId) {
-        String key = REFRESH_KEY_PREFIX + memberId;
-        redisTemplate.delete(key);
+        refreshTokenRepository.deleteAll(memberId);
     }
 }
@@ -1,22 +1,196 @@
 package com.example.techbridge.auth.service;
 
+import com.example.techbridge.auth.jwt.VerifiedToken;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import lombok.RequiredArgsConstructor;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
-public class TokenBlacklistService {
+public class TokenBlacklistService implements MessageListener {
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final TokenVersionService tokenVersionService;
     private static final String BLACKLIST_PREFIX = "bl:";
+    private static final String BLACKLIST_CHANNEL = "bl:events";
+    private static final int RESYNC_BATCH_SIZE = 1000;
+
+    private final boolean versionMode;
+    private final boolean bloomEnabled;
+    private final BlacklistBloomFilter bloomFilter;
+    private volatile boolean bloomReady;
+
+    public TokenBlacklistService(RedisTemplate<String, String> redisTemplate,
+        RedisMessageListenerContainer listenerContainer,
+        TokenVersionService tokenVersionService,
+        @Value("${jwt.revocation.mode:blacklist}") String revocationMode,
+        @Value("${jwt.blacklist.bloom.enabled:false}") boolean bloomEnabled,
+        @Value("${jwt.blacklist.bloom.window:5m}") Duration window,
+        @Value("${jwt.blacklist.bloom.expected-insertions:10000}") int expectedInsertions,
+        @Value("${jwt.blacklist.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.tokenVersionService = tokenVersionService;
+        this.versionMode = "version".equalsIgnoreCase(revocationMode);
+        this.bloomEnabled = bloomEnabled && !versionMode;
+        this.bloomFilter = new BlacklistBloomFilter(window.toMillis(), expectedInsertions,
+            falsePositiveRate);
+    }
+
+    @PostConstruct
+    private void init() {
+        if (!bloomEnabled) {
+            return;
+        }
+        // 구독을 먼저 걸어야 적재 도중 들어온 블랙리스트를 놓치지 않는다
+        listenerContainer.addMessageListener(this, new ChannelTopic(BLACKLIST_CHANNEL));
+        resync();
+    }
+
+    /**
+     * 발급 시 토큰에 넣을 세대 값. blacklist 모드에서는 항상 0이다.
+     */
+    public long currentVersion(Long memberId) {
+        return versionMode ? tokenVersionService.currentVersion(memberId) : 0L;
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        if (versionMode) {
+            return token.getVersion() < tokenVersionService.currentVersion(token.getMemberId());
+        }
+        return isBlacklisted(token.getJti());
+    }
+
+    /**
+     * 로그아웃. version 모드에서는 세대를 올려 해당 회원의 모든 토큰을 한 번에 무효화한다.
+     */
+    public void revoke(VerifiedToken token) {
+        if (versionMode) {
+            tokenVersionService.bump(token.getMemberId());
+            return;
+        }
+        blacklist(token.getJti(), token.getRemainingTTL());
+    }
+
+    /**
+     * 비밀번호 변경 등으로 회원의 모든 토큰을 무효화한다. jti 단위인 blacklist 모드에서는 알 수 없는 토큰을 막을 수 없으므로 무시한다.
+     */
+    public void revokeAll(Long memberId) {
+        if (versionMode) {
+            tokenVersionService.bump(memberId);
+        }
+    }
 
     public void blacklist(String jti, Duration ttl) {
         String key = BLACKLIST_PREFIX + jti;
         redisTemplate.opsForValue().set(key, "Y", ttl);
+
+        if (bloomEnabled) {
+            long now = System.currentTimeMillis();
+            long expiresAt = now + ttl.toMillis();
+            bloomFilter.add(jti, expiresAt, now);
+            redisTemplate.convertAndSend(BLACKLIST_CHANNEL, jti + " " + expiresAt);
+        }
     }
 
     public boolean isBlacklisted(String jti) {
+        if (bloomEnabled && bloomReady
+            && !bloomFilter.mightContain(jti, System.currentTimeMillis())) {
+            return false;
+        }
         return Boolean.TRUE.equals(redisTemplate.hasKey(BLACKLIST_PREFIX + jti));
     }
-}
\ No newline at end of file
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.lastIndexOf(' ');
+        if (sep < 0) {
+            log.warn("잘못된 블랙리스트 이벤트: {}", body);
+            return;
+        }
+
+        try {
+            long expiresAt = Long.parseLong(body.substring(sep + 1));
+            bloomFilter.add(body.substring(0, sep), expiresAt, System.currentTimeMillis());
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 블랙리스트 이벤트: {}", body);
+        }
+    }
+
+    /**
+     * Redis의 블랙리스트 키를 SCAN으로 다시 읽어 필터를 채운다. Pub/Sub 연결이 끊긴 사이 놓친 이벤트도 이 주기로 복구된다. 남은 TTL은
+     * SCAN 한 페이지 분량씩 파이프라인으로 조회해 키 수만큼 왕복하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.bloom.resync-interval:300000}",
+        initialDelayString = "${jwt.blacklist.bloom.resync-interval:300000}")
+    public void resync() {
+        if (!bloomEnabled) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_PREFIX + "*").count(RESYNC_BATCH_SIZE)
+            .build();
+        int loaded = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> keys = new ArrayList<>(RESYNC_BATCH_SIZE);
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == RESYNC_BATCH_SIZE) {
+                    loaded += loadBatch(keys, now);
+                    keys.clear();
+                }
+            }
+            loaded += loadBatch(keys, now);
+            bloomReady = true;
+            log.debug("블랙리스트 필터 동기화 완료: loaded={}", loaded);
+        } catch (Exception e) {
+            bloomReady = false;
+            log.error("블랙리스트 필터 동기화 실패, Redis 직접 조회로 전환: {}", e.getMessage());
+        }
+    }
+
+    private int loadBatch(List<String> keys, long now) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        int loaded = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            if (ttls.get(i) instanceof Long ttl && ttl > 0) {
+                bloomFilter.add(keys.get(i).substring(BLACKLIST_PREFIX.length()), now + ttl, now);
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    @Scheduled(fixedRate = 60_000)
+    public void expireBloomWindows() {
+        if (bloomEnabled) {
+            bloomFilter.expire(System.currentTimeMillis());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.techbridge.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+/**
+ * 회원별 토큰 세대(version) 카운터. 토큰 발급 시 현재 세대를 클레임으로 넣고, 세대를 올리면 그 이전에 발급된 토큰은 모두 무효가 된다. 조회는 로컬
+ * 캐시에서 처리하고 변경은 Pub/Sub으로 다른 노드에 전파한다.
+ * <p>
+ * 세대 키에는 TTL을 두지 않는다. 키가 만료되면 세대가 0으로 돌아가고, 다음 세대 증가가 아직 살아 있는 토큰의 세대와 같아져 무효화가 되지 않기
+ * 때문이다. 키는 로그아웃한 적이 있는 회원당 하나뿐이다.
+ */
+@Slf4j
+@Service
+public class TokenVersionService implements MessageListener {
+
+    private static final String VERSION_PREFIX = "tv:";
+    private static final String VERSION_CHANNEL = "tv:events";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<Long, Long> versions;
+
+    public TokenVersionService(RedisTemplate<String, String> redisTemplate,
+        RedisMessageListenerContainer listenerContainer,
+        @Value("${jwt.revocation.version-cache-ttl:60s}") Duration cacheTtl,
+        @Value("${jwt.revocation.version-cache-size:100000}") long cacheSize) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.versions = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfterWrite(cacheTtl)
+            .build();
+    }
+
+    @PostConstruct
+    private void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(VERSION_CHANNEL));
+    }
+
+    public long currentVersion(Long memberId) {
+        return versions.get(memberId, this::load);
+    }
+
+    public long bump(Long memberId) {
+        String key = VERSION_PREFIX + memberId;
+        Long version = redisTemplate.opsForValue().increment(key);
+        // 이전 버전에서 TTL을 붙여 저장한 키도 더 이상 만료되지 않게 한다
+        redisTemplate.persist(key);
+
+        long current = (version != null) ? version : 0L;
+        versions.asMap().merge(memberId, current, Math::max);
+        redisTemplate.convertAndSend(VERSION_CHANNEL, memberId + " " + current);
+        return current;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.indexOf(' ');
+        try {
+            Long memberId = Long.parseLong(body.substring(0, sep));
+            long version = Long.parseLong(body.substring(sep + 1));
+            versions.asMap().merge(memberId, version, Math::max);
+        } catch (RuntimeException e) {
+            log.warn("잘못된 토큰 세대 이벤트: {}", body);
+        }
+    }
+
+    private Long load(Long memberId) {
+        String value = redisTemplate.opsForValue().get(VERSION_PREFIX + memberId);
+        return (value != null) ? Long.parseLong(value) : 0L;
+    }
+}
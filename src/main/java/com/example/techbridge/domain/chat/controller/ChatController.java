@@ -1,13 +1,16 @@
 package com.example.techbridge.domain.chat.controller;
 
+import com.example.techbridge.auth.dto.LoginMember;
 import com.example.techbridge.domain.chat.dto.ChatMessageDto;
+import com.example.techbridge.domain.chat.dto.ChatRoomSummaryResponse;
+import com.example.techbridge.domain.chat.dto.MessageSliceResponse;
 import com.example.techbridge.domain.chat.model.ChattingRoom;
-import com.example.techbridge.domain.chat.model.Message;
 import com.example.techbridge.domain.chat.service.ChatService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -47,15 +50,33 @@ public class ChatController {
         return ResponseEntity.ok(chatService.getOrCreatePrivateRoom(user1Id, user2Id));
     }
 
-    // 사용자의 모든 채팅방 목록 조회
+    // 사용자의 모든 채팅방 목록 조회 (최근 활동순, 마지막 메시지와 읽지 않은 수 포함)
     @GetMapping("/users/{userId}/rooms")
-    public ResponseEntity<List<ChattingRoom>> getUserChatRooms(@PathVariable Long userId) {
+    public ResponseEntity<List<ChatRoomSummaryResponse>> getUserChatRooms(@PathVariable Long userId) {
         return ResponseEntity.ok(chatService.getUserChatRooms(userId));
     }
 
-    // 채팅방 메시지 조회
+    // 채팅방 읽음 처리 (로그인한 사용자 본인의 읽음 위치만 옮긴다)
+    @PostMapping("/rooms/{roomId}/read")
+    public ResponseEntity<Void> markRoomRead(
+            @PathVariable Long roomId,
+            @AuthenticationPrincipal LoginMember loginMember) {
+        chatService.markRoomRead(roomId, loginMember.getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    // 채팅방 메시지 조회 (최신순, before 커서 이전 메시지를 limit건씩)
     @GetMapping("/rooms/{roomId}/messages")
-    public ResponseEntity<List<Message>> getRoomMessages(@PathVariable Long roomId) {
-        return ResponseEntity.ok(chatService.getPreviousMessages(roomId));
+    public ResponseEntity<MessageSliceResponse> getRoomMessages(
+            @PathVariable Long roomId,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "50") int limit) {
+        MessageSliceResponse response = chatService.getMessages(roomId, before, limit);
+        if (response.getCacheStatus() == null) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.ok()
+                .header("X-Cache", response.getCacheStatus())
+                .body(response);
     }
 }
\ No newline at end of file
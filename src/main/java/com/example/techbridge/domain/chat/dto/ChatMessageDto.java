@@ -1,5 +1,7 @@
 package com.example.techbridge.domain.chat.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,8 +13,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class ChatMessageDto {
-    private Long messageId;
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long messageId;          // 서버가 발급하는 시간순 id
+    private String clientMessageId;  // 클라이언트가 보낸 메시지를 수신 확인과 짝짓기 위한 값
     private Long senderId;
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long roomId;
     private String message;
     private LocalDateTime sentAt;
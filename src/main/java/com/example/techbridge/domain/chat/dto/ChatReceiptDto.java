@@ -0,0 +1,29 @@
+package com.example.techbridge.domain.chat.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메시지 전송 결과를 보낸 사람에게 알려주는 수신 확인. Kafka에 기록되면 ACK, 실패하면 NACK.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatReceiptDto {
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long messageId;
+    private String clientMessageId;
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long roomId;
+    private Status status;
+    private String reason;
+
+    public enum Status {
+        ACK, NACK
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.techbridge.domain.chat.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 채팅방 목록 한 줄. 채팅방 정보와 마지막 메시지 미리보기, 읽지 않은 메시지 수를 함께 담아 목록 화면에서 추가 조회가 필요 없게 한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatRoomSummaryResponse {
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long roomId;
+    private String roomName;
+    private String roomState;
+    private List<Long> participants;
+    private LocalDateTime createdAt;
+    private LocalDateTime lastActivityAt;
+    private LastMessage lastMessage;
+    // 상한(MAX_UNREAD_COUNT)까지만 센다. 상한과 같으면 "99+"처럼 표시한다
+    private int unreadCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LastMessage {
+        private Long senderId;
+        private String content;
+        private String type;
+        private LocalDateTime sentAt;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.techbridge.domain.chat.dto;
+
+import com.example.techbridge.domain.chat.exception.InvalidMessageCursorException;
+import com.example.techbridge.domain.chat.model.Message;
+import org.bson.types.ObjectId;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 채팅 기록 페이지 경계. {@code sentAt(epoch ms)_id} 형태의 문자열로 주고받으며, 이 값보다 과거(sentAt, _id 내림차순 기준)의 메시지를
+ * 다음 페이지로 조회한다.
+ */
+public record MessageCursor(LocalDateTime sentAt, ObjectId id) {
+
+    private static final char SEPARATOR = '_';
+
+    public static MessageCursor of(Message message) {
+        return new MessageCursor(message.getSentAt(), new ObjectId(message.getId()));
+    }
+
+    public static MessageCursor parse(String value) {
+        int sep = value.indexOf(SEPARATOR);
+        try {
+            long epochMillis = Long.parseLong(value.substring(0, sep));
+            LocalDateTime sentAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis),
+                    ZoneId.systemDefault());
+            return new MessageCursor(sentAt, new ObjectId(value.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidMessageCursorException();
+        }
+    }
+
+    public String encode() {
+        long epochMillis = sentAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return epochMillis + String.valueOf(SEPARATOR) + id.toHexString();
+    }
+}
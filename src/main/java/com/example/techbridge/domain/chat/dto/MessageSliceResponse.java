@@ -0,0 +1,35 @@
+package com.example.techbridge.domain.chat.dto;
+
+import com.example.techbridge.domain.chat.model.Message;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 최신순 채팅 기록 한 페이지. 다음 페이지는 nextCursor를 before로 넘겨 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class MessageSliceResponse {
+    private List<Message> messages;
+    private String nextCursor;
+    private boolean hasNext;
+    // 첫 페이지를 어디서 읽었는지(HIT-LOCAL, HIT-REDIS, MISS). 응답 헤더로만 내보낸다
+    @JsonIgnore
+    private String cacheStatus;
+
+    public static MessageSliceResponse of(List<Message> fetched, int limit) {
+        return of(fetched, limit, null);
+    }
+
+    public static MessageSliceResponse of(List<Message> fetched, int limit, String cacheStatus) {
+        boolean hasNext = fetched.size() > limit;
+        List<Message> messages = hasNext ? fetched.subList(0, limit) : fetched;
+        String nextCursor = hasNext
+                ? MessageCursor.of(messages.get(messages.size() - 1)).encode()
+                : null;
+        return new MessageSliceResponse(messages, nextCursor, hasNext, cacheStatus);
+    }
+}
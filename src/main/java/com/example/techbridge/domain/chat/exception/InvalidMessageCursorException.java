@@ -0,0 +1,11 @@
+package com.example.techbridge.domain.chat.exception;
+
+import com.example.techbridge.global.exception.BusinessException;
+import com.example.techbridge.global.exception.ErrorCode;
+
+public class InvalidMessageCursorException extends BusinessException {
+
+    public InvalidMessageCursorException() {
+        super(ErrorCode.INVALID_MESSAGE_CURSOR);
+    }
+}
@@ -1,10 +1,13 @@
 package com.example.techbridge.domain.chat.model;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import jakarta.persistence.Id;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -17,7 +20,12 @@ import java.time.LocalDateTime;
 public class ChatParticipation {
     @Id
     private String id;
+    @Indexed
     private Long userId;
+    @Indexed
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long roomId;
     private LocalDateTime joinedAt;
+    // 이 시각 이후 메시지를 읽지 않은 메시지로 센다
+    private LocalDateTime lastReadAt;
 }
\ No newline at end of file
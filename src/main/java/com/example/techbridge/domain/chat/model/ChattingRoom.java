@@ -1,10 +1,13 @@
 package com.example.techbridge.domain.chat.model;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -18,10 +21,20 @@ import java.util.List;
 public class ChattingRoom {
     @Id
     private String id;
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long roomId;
     private String roomName;
     private String roomState;
+    // 1:1 채팅방의 "작은 id:큰 id". 그룹 채팅방에는 없으므로 sparse로 둔다
+    @Indexed(unique = true, sparse = true)
+    private String pairKey;
+    // pairKey가 없는 기존 1:1 채팅방을 찾을 때만 사용한다
+    @Indexed
     private List<Long> participants;
     private LocalDateTime createdAt;
     private LocalDateTime lastActivityAt;
+
+    public static String pairKey(Long user1Id, Long user2Id) {
+        return Math.min(user1Id, user2Id) + ":" + Math.max(user1Id, user2Id);
+    }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.example.techbridge.domain.chat.model;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -14,11 +17,14 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "message")
+@CompoundIndex(name = "room_sent_id", def = "{'roomId': 1, 'sentAt': -1, '_id': -1}")
 public class Message {
     @Id
     private String id;
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long messageId;
     private Long senderId;
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long roomId;
     private String content;
     private LocalDateTime sentAt;
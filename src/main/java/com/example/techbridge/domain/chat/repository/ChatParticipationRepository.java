@@ -5,7 +5,8 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.List;
 
-public interface ChatParticipationRepository extends MongoRepository<ChatParticipation, String> {
+public interface ChatParticipationRepository extends MongoRepository<ChatParticipation, String>,
+        ChatParticipationRepositoryCustom {
     List<ChatParticipation> findByRoomId(Long roomId);
     List<ChatParticipation> findByUserId(Long userId);
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.example.techbridge.domain.chat.repository;
+
+import com.example.techbridge.domain.chat.dto.ChatRoomSummaryResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ChatParticipationRepositoryCustom {
+
+    /**
+     * 사용자가 참가한 채팅방을 최근 활동순으로 조회한다. 채팅방, 마지막 메시지, 읽지 않은 메시지 수를 한 번의 aggregation으로 읽는다.
+     */
+    List<ChatRoomSummaryResponse> findRoomSummaries(Long userId);
+
+    /**
+     * 사용자가 채팅방을 readAt까지 읽었다고 기록한다. 이미 더 늦은 시각이 기록되어 있으면 그대로 둔다.
+     */
+    void markRead(Long userId, Long roomId, LocalDateTime readAt);
+}
@@ -0,0 +1,93 @@
+package com.example.techbridge.domain.chat.repository;
+
+import com.example.techbridge.domain.chat.dto.ChatRoomSummaryResponse;
+import com.example.techbridge.domain.chat.model.ChatParticipation;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ChatParticipationRepositoryImpl implements ChatParticipationRepositoryCustom {
+
+    // 읽지 않은 메시지는 이 수까지만 센다. 오래 안 읽은 채팅방에서 메시지 전체를 세지 않기 위함
+    public static final int MAX_UNREAD_COUNT = 100;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<ChatRoomSummaryResponse> findRoomSummaries(Long userId) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("userId").is(userId)),
+                Aggregation.lookup("chatting_room", "roomId", "roomId", "room"),
+                Aggregation.unwind("room"),
+                Aggregation.sort(Sort.by(Sort.Direction.DESC, "room.lastActivityAt")),
+                lastMessageLookup(),
+                unreadCountLookup(userId),
+                context -> new Document("$project", new Document()
+                        .append("_id", 0)
+                        .append("roomId", "$room.roomId")
+                        .append("roomName", "$room.roomName")
+                        .append("roomState", "$room.roomState")
+                        .append("participants", "$room.participants")
+                        .append("createdAt", "$room.createdAt")
+                        .append("lastActivityAt", "$room.lastActivityAt")
+                        .append("lastMessage", new Document("$arrayElemAt", List.of("$lastMessage", 0)))
+                        .append("unreadCount", new Document("$ifNull",
+                                List.of(new Document("$arrayElemAt", List.of("$unread.count", 0)), 0)))));
+
+        return mongoTemplate.aggregate(aggregation, ChatParticipation.class, ChatRoomSummaryResponse.class)
+                .getMappedResults();
+    }
+
+    @Override
+    public void markRead(Long userId, Long roomId, LocalDateTime readAt) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("userId").is(userId).and("roomId").is(roomId)),
+                new Update().max("lastReadAt", readAt),
+                ChatParticipation.class);
+    }
+
+    // {roomId, sentAt, _id} 인덱스를 따라 최신 메시지 한 건만 읽는다
+    private AggregationOperation lastMessageLookup() {
+        return context -> new Document("$lookup", new Document()
+                .append("from", "message")
+                .append("localField", "roomId")
+                .append("foreignField", "roomId")
+                .append("pipeline", List.of(
+                        new Document("$sort", new Document("sentAt", -1).append("_id", -1)),
+                        new Document("$limit", 1),
+                        new Document("$project", new Document("_id", 0)
+                                .append("senderId", 1)
+                                .append("content", 1)
+                                .append("type", 1)
+                                .append("sentAt", 1))))
+                .append("as", "lastMessage"));
+    }
+
+    // lastReadAt 이후 다른 사람이 보낸 메시지를 MAX_UNREAD_COUNT까지 센다
+    private AggregationOperation unreadCountLookup(Long userId) {
+        Document readAt = new Document("$ifNull", List.of("$$readAt", new Date(0)));
+        return context -> new Document("$lookup", new Document()
+                .append("from", "message")
+                .append("localField", "roomId")
+                .append("foreignField", "roomId")
+                .append("let", new Document("readAt", "$lastReadAt"))
+                .append("pipeline", List.of(
+                        new Document("$match", new Document("$expr", new Document("$and", List.of(
+                                new Document("$gt", List.of("$sentAt", readAt)),
+                                new Document("$ne", List.of("$senderId", userId)))))),
+                        new Document("$limit", MAX_UNREAD_COUNT),
+                        new Document("$count", "count")))
+                .append("as", "unread"));
+    }
+}
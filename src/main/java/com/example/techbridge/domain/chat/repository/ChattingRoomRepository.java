@@ -3,6 +3,7 @@ package com.example.techbridge.domain.chat.repository;
 import com.example.techbridge.domain.chat.model.ChattingRoom;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
-public interface ChattingRoomRepository extends MongoRepository<ChattingRoom, String> {
+public interface ChattingRoomRepository extends MongoRepository<ChattingRoom, String>, ChattingRoomRepositoryCustom {
     ChattingRoom findByRoomId(Long roomId);
+    ChattingRoom findByPairKey(String pairKey);
 }
\ No newline at end of file
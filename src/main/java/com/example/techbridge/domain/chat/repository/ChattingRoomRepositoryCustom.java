@@ -0,0 +1,17 @@
+package com.example.techbridge.domain.chat.repository;
+
+import com.example.techbridge.domain.chat.model.ChattingRoom;
+
+public interface ChattingRoomRepositoryCustom {
+
+    /**
+     * pairKey가 같은 채팅방이 없을 때만 room을 저장하고, 있으면 기존 채팅방을 반환한다. 한 번의 findAndModify(upsert)로 처리하므로
+     * 동시에 호출해도 채팅방은 하나만 생긴다.
+     */
+    ChattingRoom insertPrivateRoomIfAbsent(ChattingRoom room);
+
+    /**
+     * pairKey 도입 전에 만들어진 두 사람만의 채팅방이 있으면 pairKey를 채워서 반환한다. 없으면 null.
+     */
+    ChattingRoom claimLegacyPrivateRoom(Long user1Id, Long user2Id);
+}
@@ -0,0 +1,53 @@
+package com.example.techbridge.domain.chat.repository;
+
+import com.example.techbridge.domain.chat.model.ChattingRoom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ChattingRoomRepositoryImpl implements ChattingRoomRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public ChattingRoom insertPrivateRoomIfAbsent(ChattingRoom room) {
+        Query query = Query.query(Criteria.where("pairKey").is(room.getPairKey()));
+        Update update = new Update()
+                .setOnInsert("roomId", room.getRoomId())
+                .setOnInsert("roomName", room.getRoomName())
+                .setOnInsert("roomState", room.getRoomState())
+                .setOnInsert("participants", room.getParticipants())
+                .setOnInsert("createdAt", room.getCreatedAt())
+                .setOnInsert("lastActivityAt", room.getLastActivityAt());
+
+        try {
+            return mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), ChattingRoom.class);
+        } catch (DuplicateKeyException e) {
+            // 동시에 upsert한 다른 요청이 먼저 저장한 경우
+            log.info("이미 생성된 1:1 채팅방 사용: pairKey={}", room.getPairKey());
+            return mongoTemplate.findOne(query, ChattingRoom.class);
+        }
+    }
+
+    @Override
+    public ChattingRoom claimLegacyPrivateRoom(Long user1Id, Long user2Id) {
+        String pairKey = ChattingRoom.pairKey(user1Id, user2Id);
+        Query query = Query.query(Criteria.where("participants").all(user1Id, user2Id).size(2)
+                .and("pairKey").exists(false));
+
+        try {
+            return mongoTemplate.findAndModify(query, new Update().set("pairKey", pairKey),
+                    FindAndModifyOptions.options().returnNew(true), ChattingRoom.class);
+        } catch (DuplicateKeyException e) {
+            return mongoTemplate.findOne(Query.query(Criteria.where("pairKey").is(pairKey)), ChattingRoom.class);
+        }
+    }
+}
@@ -3,8 +3,5 @@ package com.example.techbridge.domain.chat.repository;
 import com.example.techbridge.domain.chat.model.Message;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
-import java.util.List;
-
-public interface MessageRepository extends MongoRepository<Message, String> {
-    List<Message> findByRoomIdOrderBySentAtDesc(Long roomId);
+public interface MessageRepository extends MongoRepository<Message, String>, MessageRepositoryCustom {
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.example.techbridge.domain.chat.repository;
+
+import com.example.techbridge.domain.chat.dto.MessageCursor;
+import com.example.techbridge.domain.chat.model.Message;
+
+import java.util.List;
+
+public interface MessageRepositoryCustom {
+
+    /**
+     * 한 번의 unordered bulk write로 저장한다. 이미 저장된 _id(재전달된 레코드)는 건너뛰고 새로 저장된 건수를 반환한다.
+     */
+    int insertAllIgnoringDuplicates(List<Message> messages);
+
+    /**
+     * 채팅방의 메시지를 최신순으로 limit건 조회한다. before가 있으면 그보다 과거의 메시지만 조회하며
+     * {roomId, sentAt, _id} 인덱스 범위 하나만 읽는다.
+     */
+    List<Message> findSlice(Long roomId, MessageCursor before, int limit);
+}
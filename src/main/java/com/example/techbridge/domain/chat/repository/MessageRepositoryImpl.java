@@ -0,0 +1,63 @@
+package com.example.techbridge.domain.chat.repository;
+
+import com.example.techbridge.domain.chat.dto.MessageCursor;
+import com.example.techbridge.domain.chat.model.Message;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+public class MessageRepositoryImpl implements MessageRepositoryCustom {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public int insertAllIgnoringDuplicates(List<Message> messages) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            return mongoTemplate.bulkOps(BulkMode.UNORDERED, Message.class)
+                    .insert(messages)
+                    .execute()
+                    .getInsertedCount();
+        } catch (BulkOperationException e) {
+            boolean onlyDuplicates = e.getErrors().stream()
+                    .map(BulkWriteError::getCode)
+                    .allMatch(code -> code == DUPLICATE_KEY);
+            if (!onlyDuplicates) {
+                throw e;
+            }
+
+            log.info("이미 저장된 메시지 {}건 건너뜀", e.getErrors().size());
+            return e.getResult().getInsertedCount();
+        }
+    }
+
+    @Override
+    public List<Message> findSlice(Long roomId, MessageCursor before, int limit) {
+        Criteria criteria = Criteria.where("roomId").is(roomId);
+        if (before != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where("sentAt").lt(before.sentAt()),
+                    Criteria.where("sentAt").is(before.sentAt()).and("_id").lt(before.id()));
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Order.desc("sentAt"), Sort.Order.desc("_id")))
+                .limit(limit);
+        return mongoTemplate.find(query, Message.class);
+    }
+}
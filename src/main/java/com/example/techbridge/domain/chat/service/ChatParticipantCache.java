@@ -0,0 +1,119 @@
+package com.example.techbridge.domain.chat.service;
+
+import com.example.techbridge.domain.chat.model.ChatParticipation;
+import com.example.techbridge.domain.chat.repository.ChatParticipationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * 채팅방별 참가자 id 캐시. 컨슈머가 메시지마다 chat_participation을 조회하지 않도록 처음 조회할 때 채우고, 참가자 변경은 로컬에 반영한 뒤
+ * Pub/Sub으로 다른 노드의 항목을 무효화한다. 만료 시간은 이벤트를 놓쳤을 때를 위한 안전장치다.
+ */
+@Slf4j
+@Component
+public class ChatParticipantCache implements MessageListener {
+
+    private static final String INVALIDATE_CHANNEL = "chat:participants:events";
+
+    private final ChatParticipationRepository chatParticipationRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<Long, long[]> participants;
+    // 자신이 보낸 무효화 이벤트는 건너뛰기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public ChatParticipantCache(ChatParticipationRepository chatParticipationRepository,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${chat.participant-cache.max-rooms:50000}") long maxRooms,
+            @Value("${chat.participant-cache.ttl:10m}") Duration ttl) {
+        this.chatParticipationRepository = chatParticipationRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.participants = Caffeine.newBuilder()
+                .maximumSize(maxRooms)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @PostConstruct
+    private void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 참가자 id 배열을 반환한다. 호출자는 배열을 수정하면 안 된다.
+     */
+    public long[] get(Long roomId) {
+        return participants.get(roomId, this::load);
+    }
+
+    /**
+     * 참가자를 저장한 뒤 호출한다. 이미 캐시된 채팅방이면 배열에 추가하고 다른 노드에는 무효화를 알린다.
+     */
+    public void added(Long roomId, Long userId) {
+        participants.asMap().computeIfPresent(roomId, (id, ids) -> {
+            if (Arrays.stream(ids).anyMatch(existing -> existing == userId)) {
+                return ids;
+            }
+            long[] updated = Arrays.copyOf(ids, ids.length + 1);
+            updated[ids.length] = userId;
+            return updated;
+        });
+        publish(roomId);
+    }
+
+    /**
+     * 참가자 구성이 바뀌었을 수 있으면 호출한다. 다음 조회 때 다시 읽는다.
+     */
+    public void invalidate(Long roomId) {
+        participants.invalidate(roomId);
+        publish(roomId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.indexOf(' ');
+        try {
+            if (nodeId.equals(body.substring(0, sep))) {
+                return;
+            }
+            participants.invalidate(Long.parseLong(body.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            log.warn("잘못된 참가자 캐시 이벤트: {}", body);
+        }
+    }
+
+    private void publish(Long roomId) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, nodeId + " " + roomId);
+        } catch (DataAccessException e) {
+            log.warn("참가자 캐시 무효화 전파 실패: roomId={}, error={}", roomId, e.getMessage());
+        }
+    }
+
+    private long[] load(Long roomId) {
+        return chatParticipationRepository.findByRoomId(roomId)
+                .stream()
+                .map(ChatParticipation::getUserId)
+                .mapToLong(Long::longValue)
+                .distinct()
+                .toArray();
+    }
+}
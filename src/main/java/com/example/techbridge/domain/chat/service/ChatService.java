@@ -1,25 +1,39 @@
 package com.example.techbridge.domain.chat.service;
 
 import com.example.techbridge.domain.chat.dto.ChatMessageDto;
+import com.example.techbridge.domain.chat.dto.ChatReceiptDto;
+import com.example.techbridge.domain.chat.dto.ChatRoomSummaryResponse;
+import com.example.techbridge.domain.chat.dto.MessageCursor;
+import com.example.techbridge.domain.chat.dto.MessageSliceResponse;
 import com.example.techbridge.domain.chat.model.ChatParticipation;
 import com.example.techbridge.domain.chat.model.ChattingRoom;
 import com.example.techbridge.domain.chat.model.Message;
 import com.example.techbridge.domain.chat.repository.ChatParticipationRepository;
 import com.example.techbridge.domain.chat.repository.ChattingRoomRepository;
 import com.example.techbridge.domain.chat.repository.MessageRepository;
+import com.example.techbridge.domain.notification.dto.NotificationDto;
 import com.example.techbridge.domain.notification.service.NotificationService;
+import com.example.techbridge.global.common.SnowflakeIdGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.bson.types.ObjectId;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -32,29 +46,30 @@ public class ChatService {
     private final KafkaTemplate<String, ChatMessageDto> kafkaTemplate;
     private final SimpMessagingTemplate messagingTemplate;
     private final NotificationService notificationService;
-
-    private static final String CHAT_TOPIC = "chat-messages";
-
+    private final RoomActivityUpdater roomActivityUpdater;
+    private final RecentMessageCache recentMessageCache;
+    private final ChatParticipantCache chatParticipantCache;
+    private final SnowflakeIdGenerator idGenerator;
+
+    public static final String CHAT_TOPIC = "chat-messages";
+    private static final int MAX_MESSAGE_PAGE_SIZE = 100;
+
+    /**
+     * 두 사람의 pairKey로 조회하고, 없으면 upsert로 생성한다. 동시에 호출해도 채팅방은 하나만 생기며 참가자 저장과 생성 알림은 실제로 생성한
+     * 요청에서만 처리한다.
+     */
     @Transactional
     public ChattingRoom getOrCreatePrivateRoom(Long user1Id, Long user2Id) {
         // 기존 채팅방 검색
-        List<ChatParticipation> user1Rooms = chatParticipationRepository.findByUserId(user1Id);
-        List<ChatParticipation> user2Rooms = chatParticipationRepository.findByUserId(user2Id);
-
-        List<Long> user1RoomIds = user1Rooms.stream()
-                .map(ChatParticipation::getRoomId)
-                .collect(Collectors.toList());
-
-        Optional<Long> sharedRoomId = user2Rooms.stream()
-                .map(ChatParticipation::getRoomId)
-                .filter(user1RoomIds::contains)
-                .findFirst();
+        String pairKey = ChattingRoom.pairKey(user1Id, user2Id);
+        ChattingRoom existing = chattingRoomRepository.findByPairKey(pairKey);
+        if (existing != null) {
+            return existing;
+        }
 
-        if (sharedRoomId.isPresent()) {
-            ChattingRoom room = chattingRoomRepository.findByRoomId(sharedRoomId.get());
-            if (room != null) {
-                return room;
-            }
+        ChattingRoom legacy = chattingRoomRepository.claimLegacyPrivateRoom(user1Id, user2Id);
+        if (legacy != null) {
+            return legacy;
         }
 
         // 새 채팅방 생성
@@ -64,12 +79,17 @@ public class ChatService {
                 .roomId(newRoomId)
                 .roomName(roomName)
                 .roomState("ACTIVE")
+                .pairKey(pairKey)
                 .participants(Arrays.asList(user1Id, user2Id))
                 .createdAt(LocalDateTime.now())
                 .lastActivityAt(LocalDateTime.now())
                 .build();
 
-        ChattingRoom savedRoom = chattingRoomRepository.save(room);
+        ChattingRoom savedRoom = chattingRoomRepository.insertPrivateRoomIfAbsent(room);
+        if (!newRoomId.equals(savedRoom.getRoomId())) {
+            // 다른 요청이 먼저 생성했다
+            return savedRoom;
+        }
 
         // 참가자 정보 저장
         saveParticipant(user1Id, savedRoom.getRoomId());
@@ -94,130 +114,278 @@ public class ChatService {
                 .joinedAt(LocalDateTime.now())
                 .build();
         chatParticipationRepository.save(participation);
+        chatParticipantCache.added(roomId, userId);
         log.info("참가자 정보 저장 완료: userId={}, roomId={}", userId, roomId);
     }
 
+    /**
+     * STOMP 인바운드 스레드에서는 Kafka 전송만 요청하고 바로 반환한다. 전송 결과는 보낸 사람에게 /queue/receipts로 ACK/NACK을 보내고,
+     * 채팅방 활동 시간은 {@link RoomActivityUpdater}가 모아서 갱신한다. messageId는 서버가 발급하고, 클라이언트가 보낸 값은
+     * clientMessageId로 수신 확인에 돌려준다. type이 없으면 CHAT으로 보고, roomId가 없으면 Kafka에 보내지 않고 NACK한다.
+     */
     public void sendMessage(ChatMessageDto messageDto) {
+        if (messageDto.getClientMessageId() == null && messageDto.getMessageId() != null) {
+            // messageId만 보내는 기존 클라이언트
+            messageDto.setClientMessageId(String.valueOf(messageDto.getMessageId()));
+        }
+        messageDto.setMessageId(idGenerator.nextId());
+        messageDto.setSentAt(LocalDateTime.now());
+        if (messageDto.getType() == null) {
+            messageDto.setType(ChatMessageDto.MessageType.CHAT);
+        }
+        if (messageDto.getRoomId() == null) {
+            sendReceipt(messageDto, new IllegalArgumentException("roomId가 없는 메시지"));
+            return;
+        }
         try {
-            messageDto.setSentAt(LocalDateTime.now());
-            log.info("Kafka로 메시지 전송: {}", messageDto);
-            kafkaTemplate.send(CHAT_TOPIC, messageDto);
-            updateLastActivity(messageDto.getRoomId());
+            log.debug("Kafka로 메시지 전송: {}", messageDto);
+            // 채팅방 id를 키로 보내 같은 방의 메시지는 항상 같은 파티션에 순서대로 쌓이게 한다
+            kafkaTemplate.send(CHAT_TOPIC, String.valueOf(messageDto.getRoomId()), messageDto)
+                    .whenComplete((result, ex) -> sendReceipt(messageDto, ex));
         } catch (Exception e) {
-            log.error("메시지 전송 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("메시지 전송에 실패했습니다.", e);
+            sendReceipt(messageDto, e);
+            return;
         }
+
+        roomActivityUpdater.touch(messageDto.getRoomId(), messageDto.getSentAt());
     }
 
-    private void updateLastActivity(Long roomId) {
+    private void sendReceipt(ChatMessageDto messageDto, Throwable ex) {
+        if (ex != null) {
+            log.error("메시지 전송 실패: roomId={}, error={}", messageDto.getRoomId(), ex.getMessage());
+        }
+        if (messageDto.getSenderId() == null) {
+            return;
+        }
+
+        ChatReceiptDto receipt = ChatReceiptDto.builder()
+                .messageId(messageDto.getMessageId())
+                .clientMessageId(messageDto.getClientMessageId())
+                .roomId(messageDto.getRoomId())
+                .status((ex == null) ? ChatReceiptDto.Status.ACK : ChatReceiptDto.Status.NACK)
+                .reason((ex == null) ? null : "메시지 전송에 실패했습니다.")
+                .build();
         try {
-            ChattingRoom room = chattingRoomRepository.findByRoomId(roomId);
-            if (room != null) {
-                room.setLastActivityAt(LocalDateTime.now());
-                chattingRoomRepository.save(room);
-            }
+            messagingTemplate.convertAndSendToUser(
+                    messageDto.getSenderId().toString(), "/queue/receipts", receipt);
         } catch (Exception e) {
-            log.error("채팅방 활동 시간 업데이트 실패: roomId={}, error={}", roomId, e.getMessage());
+            log.warn("수신 확인 전송 실패: senderId={}, error={}", messageDto.getSenderId(), e.getMessage());
         }
     }
 
+    /**
+     * 한 번의 poll로 받은 레코드를 bulk insert로 저장한 뒤 전송한다. 레코드 키가 채팅방 id이므로 한 채팅방의 메시지는 한 파티션, 즉 한 컨슈머
+     * 스레드에만 들어오고 배치 안에서도 오프셋 순서대로 처리된다. 이 덕분에 컨슈머 수를 늘려도 채팅방 단위 순서는 유지된다. 저장이 실패하면 예외를 그대로 던져 오프셋을 커밋하지 않고 배치 전체를
+     * 다시 받는다(재시도 시간을 넘기면 DLT로 옮긴 뒤 커밋한다). _id는 파티션/오프셋에서 만들기 때문에 재전달된 레코드는 중복 저장되지 않는다. 알림은 메시지를 모두 전송한 뒤 배치 단위로 한 번에
+     * 만든다. 값이 없거나 roomId, type이 빠진 레코드는 다시 받아도 처리할 수 없으므로 배치를 실패시키지 않고 하나씩 건너뛴다.
+     */
     @KafkaListener(topics = CHAT_TOPIC)
-    public void receiveAndSendMessage(ChatMessageDto messageDto) {
-        try {
-            log.info("Kafka에서 메시지 수신: {}", messageDto);
+    public void receiveAndSendMessages(List<ConsumerRecord<String, ChatMessageDto>> received) {
+        List<ConsumerRecord<String, ChatMessageDto>> records = received.stream()
+                .filter(this::isProcessable)
+                .collect(Collectors.toList());
+        List<Message> messages = records.stream()
+                .map(this::toMessage)
+                .collect(Collectors.toList());
 
-            // MongoDB에 메시지 저장
-            Message message = Message.builder()
-                    .messageId(messageDto.getMessageId())
-                    .senderId(messageDto.getSenderId())
-                    .roomId(messageDto.getRoomId())
-                    .content(messageDto.getMessage())
-                    .sentAt(messageDto.getSentAt())
-                    .type(convertMessageType(messageDto.getType()))
-                    .build();
-            messageRepository.save(message);
+        int inserted = messageRepository.insertAllIgnoringDuplicates(messages);
+        log.info("Kafka 메시지 {}건 수신, {}건 저장", received.size(), inserted);
+        cacheRecentMessages(records, messages);
 
-            log.info("메시지 저장 완료: {}", message);
+        List<Delivery> deliveries = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, ChatMessageDto> record : records) {
+            ChatMessageDto messageDto = record.value();
+            try {
+                // 채팅방 전체에 메시지 전송
+                messagingTemplate.convertAndSend("/topic/room/" + messageDto.getRoomId(), messageDto);
 
-            // 채팅방 전체에 메시지 전송
-            messagingTemplate.convertAndSend("/topic/room/" + messageDto.getRoomId(), messageDto);
+                // 입장/퇴장 이벤트 뒤에는 참가자 구성을 다시 읽는다
+                if (messageDto.getType() != ChatMessageDto.MessageType.CHAT) {
+                    chatParticipantCache.invalidate(messageDto.getRoomId());
+                }
 
-            // 참가자들에게 개별 처리
-            List<Long> participants = getParticipantIdsByRoomId(messageDto.getRoomId());
-            processParticipantNotifications(messageDto, participants);
+                // 참가자들에게 개별 전송
+                long[] participants = chatParticipantCache.get(messageDto.getRoomId());
+                sendToParticipants(messageDto, participants);
+                deliveries.add(new Delivery(messageDto, participants));
 
-        } catch (Exception e) {
-            log.error("메시지 처리 실패: {}", e.getMessage(), e);
+            } catch (Exception e) {
+                log.error("메시지 처리 실패: {}", e.getMessage(), e);
+            }
+        }
+
+        processParticipantNotifications(deliveries);
+    }
+
+    private boolean isProcessable(ConsumerRecord<String, ChatMessageDto> record) {
+        ChatMessageDto messageDto = record.value();
+        if (messageDto != null && messageDto.getRoomId() != null && messageDto.getType() != null) {
+            return true;
+        }
+        log.error("처리할 수 없는 메시지 건너뜀: partition={}, offset={}, value={}",
+                record.partition(), record.offset(), messageDto);
+        return false;
+    }
+
+    private void cacheRecentMessages(List<ConsumerRecord<String, ChatMessageDto>> records,
+            List<Message> messages) {
+        Map<Long, List<Message>> byRoom = new LinkedHashMap<>();
+        Map<Long, Integer> partitionByRoom = new HashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            Long roomId = messages.get(i).getRoomId();
+            byRoom.computeIfAbsent(roomId, id -> new ArrayList<>()).add(messages.get(i));
+            partitionByRoom.put(roomId, records.get(i).partition());
         }
+
+        byRoom.forEach((roomId, roomMessages) -> {
+            try {
+                recentMessageCache.append(partitionByRoom.get(roomId), roomId, roomMessages);
+            } catch (Exception e) {
+                log.warn("최근 메시지 캐시 반영 실패: roomId={}, error={}", roomId, e.getMessage());
+            }
+        });
+    }
+
+    private Message toMessage(ConsumerRecord<String, ChatMessageDto> record) {
+        ChatMessageDto messageDto = record.value();
+        return Message.builder()
+                .id(recordObjectId(record).toHexString())
+                .messageId(messageDto.getMessageId())
+                .senderId(messageDto.getSenderId())
+                .roomId(messageDto.getRoomId())
+                .content(messageDto.getMessage())
+                .sentAt(messageDto.getSentAt())
+                .type(convertMessageType(messageDto.getType()))
+                .build();
+    }
+
+    // [레코드 타임스탬프(초) 4바이트][파티션 2바이트][오프셋 6바이트] - 시간 순 정렬을 유지하면서 재전달 시 같은 값이 나온다
+    private ObjectId recordObjectId(ConsumerRecord<?, ?> record) {
+        ByteBuffer buffer = ByteBuffer.allocate(12);
+        buffer.putInt((int) (record.timestamp() / 1000));
+        buffer.putShort((short) record.partition());
+        long offset = record.offset();
+        for (int shift = 40; shift >= 0; shift -= 8) {
+            buffer.put((byte) (offset >>> shift));
+        }
+        return new ObjectId(buffer.array());
     }
 
-    private void processParticipantNotifications(ChatMessageDto messageDto, List<Long> participants) {
-        for (Long participantId : participants) {
+    private void sendToParticipants(ChatMessageDto messageDto, long[] participants) {
+        for (long participantId : participants) {
             try {
                 log.info("사용자에게 메시지 전송: {}", participantId);
 
                 // 개별 사용자에게 메시지 전송
                 messagingTemplate.convertAndSendToUser(
-                        participantId.toString(),
+                        String.valueOf(participantId),
                         "/queue/messages",
                         messageDto
                 );
-
-                // 알림 처리
-                processNotificationForParticipant(messageDto, participantId);
-
             } catch (Exception e) {
-                log.error("참가자 알림 처리 실패: participantId={}, error={}", participantId, e.getMessage());
+                log.error("참가자 메시지 전송 실패: participantId={}, error={}", participantId, e.getMessage());
             }
         }
     }
 
-    private void processNotificationForParticipant(ChatMessageDto messageDto, Long participantId) {
+    /**
+     * 배치의 메시지들에 대한 알림을 만든다. 접속 여부는 배치 전체의 수신자를 한 번에 조회하고, 새 메시지 알림은 (받는 사람, 채팅방)별로 하나로
+     * 묶어 마지막 메시지와 메시지 수만 남긴다. 묶인 알림은 NotificationService가 이미 있는 알림에 합친다.
+     */
+    private void processParticipantNotifications(List<Delivery> deliveries) {
         // 발신자가 아닌 참가자들에게만 알림 처리
-        if (participantId.equals(messageDto.getSenderId())) {
+        Set<Long> receiverIds = new LinkedHashSet<>();
+        for (Delivery delivery : deliveries) {
+            Long senderId = delivery.message().getSenderId();
+            for (long participantId : delivery.participants()) {
+                if (senderId == null || participantId != senderId) {
+                    receiverIds.add(participantId);
+                }
+            }
+        }
+        if (receiverIds.isEmpty()) {
             return;
         }
 
-        String senderName = getUserName(messageDto.getSenderId());
+        try {
+            Set<Long> onlineUserIds = notificationService.getOnlineUsers(new ArrayList<>(receiverIds));
+
+            List<NotificationDto> activityNotifications = new ArrayList<>();
+            Map<String, NotificationDto> messageNotifications = new LinkedHashMap<>();
+            for (Delivery delivery : deliveries) {
+                ChatMessageDto messageDto = delivery.message();
+                String senderName = getUserName(messageDto.getSenderId());
+                for (long participantId : delivery.participants()) {
+                    if (messageDto.getSenderId() != null && participantId == messageDto.getSenderId()) {
+                        continue;
+                    }
+
+                    NotificationDto notification = toNotification(messageDto, participantId, senderName, onlineUserIds);
+                    if (notification == null) {
+                        continue;
+                    }
+                    if (notification.getType() == NotificationDto.NotificationType.NEW_MESSAGE) {
+                        // 같은 채팅방의 앞선 메시지 알림은 마지막 메시지 알림으로 대체하고 수만 더한다
+                        messageNotifications.merge(participantId + ":" + messageDto.getRoomId(), notification,
+                                (previous, latest) -> {
+                                    latest.setMessageCount(previous.getMessageCount() + latest.getMessageCount());
+                                    return latest;
+                                });
+                    } else {
+                        activityNotifications.add(notification);
+                    }
+                }
+            }
 
+            notificationService.createAndSendNotifications(activityNotifications, onlineUserIds);
+            notificationService.createCoalescedMessageNotifications(
+                    new ArrayList<>(messageNotifications.values()), onlineUserIds);
+        } catch (Exception e) {
+            log.error("참가자 알림 처리 실패: count={}, error={}", deliveries.size(), e.getMessage());
+        }
+    }
+
+    private NotificationDto toNotification(ChatMessageDto messageDto, Long receiverId, String senderName,
+            Set<Long> onlineUserIds) {
         switch (messageDto.getType()) {
             case CHAT:
                 // 사용자가 오프라인이거나 다른 채팅방에 있을 때만 알림 생성
-                if (!isUserActiveInCurrentRoom(participantId, messageDto.getRoomId())) {
-                    notificationService.createMessageNotification(
-                            participantId,
-                            messageDto.getSenderId(),
-                            messageDto.getRoomId(),
-                            messageDto.getMessage(),
-                            senderName
-                    );
+                if (isUserActiveInCurrentRoom(receiverId, messageDto.getRoomId(), onlineUserIds)) {
+                    return null;
                 }
-                break;
+                return notificationService.messageNotification(
+                        receiverId,
+                        messageDto.getSenderId(),
+                        messageDto.getRoomId(),
+                        messageDto.getMessage(),
+                        senderName
+                );
 
             case JOIN:
-                notificationService.createUserActivityNotification(
-                        participantId,
+                return notificationService.userActivityNotification(
+                        receiverId,
                         messageDto.getRoomId(),
                         senderName,
-                        com.example.techbridge.domain.notification.dto.NotificationDto.NotificationType.USER_JOIN
+                        NotificationDto.NotificationType.USER_JOIN
                 );
-                break;
 
             case LEAVE:
-                notificationService.createUserActivityNotification(
-                        participantId,
+                return notificationService.userActivityNotification(
+                        receiverId,
                         messageDto.getRoomId(),
                         senderName,
-                        com.example.techbridge.domain.notification.dto.NotificationDto.NotificationType.USER_LEAVE
+                        NotificationDto.NotificationType.USER_LEAVE
                 );
-                break;
+
+            default:
+                return null;
         }
     }
 
-    private boolean isUserActiveInCurrentRoom(Long userId, Long roomId) {
+    private boolean isUserActiveInCurrentRoom(Long userId, Long roomId, Set<Long> onlineUserIds) {
         // 현재는 단순히 온라인 여부만 체크
         // 실제 구현에서는 사용자가 현재 보고 있는 채팅방 정보를 확인해야 함
-        return notificationService.isUserOnline(userId);
+        return onlineUserIds.contains(userId);
     }
 
     private String getUserName(Long userId) {
@@ -235,37 +403,53 @@ public class ChatService {
         }
     }
 
-    public List<Message> getPreviousMessages(Long roomId) {
-        try {
-            return messageRepository.findByRoomIdOrderBySentAtDesc(roomId);
-        } catch (Exception e) {
-            log.error("이전 메시지 조회 실패: roomId={}, error={}", roomId, e.getMessage());
-            return List.of();
+    public MessageSliceResponse getMessages(Long roomId, String before, int limit) {
+        int size = Math.clamp(limit, 1, MAX_MESSAGE_PAGE_SIZE);
+        if (before != null && !before.isBlank()) {
+            // 한 건 더 읽어 다음 페이지 존재 여부를 판단한다
+            List<Message> fetched = messageRepository.findSlice(roomId, MessageCursor.parse(before), size + 1);
+            return MessageSliceResponse.of(fetched, size);
+        }
+
+        // 첫 페이지는 최근 메시지 캐시에서 먼저 찾는다
+        RecentMessageCache.Lookup cached = recentMessageCache.find(roomId, size);
+        if (cached != null) {
+            return MessageSliceResponse.of(cached.messages(), size, cached.source());
         }
+
+        // 캐시를 채울 수 있도록 용량만큼 읽는다
+        List<Message> fetched = messageRepository.findSlice(roomId, null,
+                Math.max(size + 1, recentMessageCache.capacity()));
+        recentMessageCache.fill(roomId, fetched);
+        return MessageSliceResponse.of(fetched, size, RecentMessageCache.MISS);
     }
 
-    public List<ChattingRoom> getUserChatRooms(Long userId) {
+    /**
+     * 채팅방 목록을 최근 활동순으로 반환한다. 마지막 메시지와 읽지 않은 메시지 수를 포함하며 aggregation 한 번으로 조회한다.
+     */
+    public List<ChatRoomSummaryResponse> getUserChatRooms(Long userId) {
         try {
-            List<ChatParticipation> participations = chatParticipationRepository.findByUserId(userId);
-            return participations.stream()
-                    .map(p -> chattingRoomRepository.findByRoomId(p.getRoomId()))
-                    .filter(room -> room != null)
-                    .collect(Collectors.toList());
+            List<ChatRoomSummaryResponse> rooms = chatParticipationRepository.findRoomSummaries(userId);
+            rooms.forEach(room -> {
+                ChatRoomSummaryResponse.LastMessage lastMessage = room.getLastMessage();
+                if (lastMessage != null && lastMessage.getContent() != null
+                        && lastMessage.getContent().length() > 50) {
+                    lastMessage.setContent(lastMessage.getContent().substring(0, 50) + "...");
+                }
+            });
+            return rooms;
         } catch (Exception e) {
             log.error("사용자 채팅방 목록 조회 실패: userId={}, error={}", userId, e.getMessage());
             return List.of();
         }
     }
 
-    private List<Long> getParticipantIdsByRoomId(Long roomId) {
-        return chatParticipationRepository.findByRoomId(roomId)
-                .stream()
-                .map(ChatParticipation::getUserId)
-                .collect(Collectors.toList());
+    public void markRoomRead(Long roomId, Long userId) {
+        chatParticipationRepository.markRead(userId, roomId, LocalDateTime.now());
     }
 
     private Long generateRoomId() {
-        return System.currentTimeMillis();
+        return idGenerator.nextId();
     }
 
     public void userJoinRoom(Long userId, Long roomId) {
@@ -276,4 +460,7 @@ public class ChatService {
     public void userLeaveRoom(Long userId, Long roomId) {
         log.info("사용자 채팅방 퇴장: userId={}, roomId={}", userId, roomId);
     }
-}
\ No newline at end of file
+
+    private record Delivery(ChatMessageDto message, long[] participants) {
+    }
+}
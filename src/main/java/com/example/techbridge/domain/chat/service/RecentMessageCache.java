@@ -0,0 +1,300 @@
+package com.example.techbridge.domain.chat.service;
+
+import com.example.techbridge.domain.chat.model.Message;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅방별 최근 메시지(최신순)를 보관하는 링 버퍼. 첫 페이지 조회를 Mongo 없이 처리하기 위한 캐시다.
+ * <ul>
+ *     <li>로컬: 해당 채팅방 파티션을 소비하는 노드에만 생긴다. 컨슈머가 저장 직후 추가하고, 파티션을 잃으면 비운다.</li>
+ *     <li>Redis: {@code chat:recent:{roomId}} 리스트. 다른 노드는 이 리스트로 첫 페이지를 처리한다.</li>
+ * </ul>
+ * 버퍼는 처음 추가된 메시지부터만 갖고 있으므로 그 이전 기록이 채워지기 전까지는 불완전 상태다. Mongo 조회 결과를 병합하면 완전해지고, 용량만큼
+ * 쌓여도 완전한 것으로 본다.
+ */
+@Slf4j
+@Component
+public class RecentMessageCache {
+
+    public static final String HIT_LOCAL = "HIT-LOCAL";
+    public static final String HIT_REDIS = "HIT-REDIS";
+    public static final String MISS = "MISS";
+
+    private static final String KEY_PREFIX = "chat:recent:";
+    // Redis 리스트 끝의 불완전 표시. 용량만큼 쌓이면 LTRIM으로 자연히 잘려 나간다
+    private static final String INCOMPLETE = "~";
+
+    // ARGV: 용량, TTL(ms), 항목(과거 -> 최신). 재전달로 다시 들어온 메시지는 맨 앞 항목보다 새롭지 않으므로 건너뛴다
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              redis.call('RPUSH', KEYS[1], '~')
+            end
+            local head = redis.call('LINDEX', KEYS[1], 0)
+            local headKey = head and head ~= '~' and string.match(head, '^[^|]+')
+            for i = 3, #ARGV do
+              local key = string.match(ARGV[i], '^[^|]+')
+              if not headKey or key > headKey then
+                redis.call('LPUSH', KEYS[1], ARGV[i])
+                headKey = key
+              end
+            end
+            redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // ARGV: 용량, 항목(최신 -> 과거). 이미 있는 가장 오래된 항목보다 과거인 것만 뒤에 붙인다
+    private static final RedisScript<Long> MERGE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('LINDEX', KEYS[1], -1) ~= '~' then
+              return 0
+            end
+            redis.call('RPOP', KEYS[1])
+            local oldest = redis.call('LINDEX', KEYS[1], -1)
+            local oldestKey = oldest and string.match(oldest, '^[^|]+')
+            for i = 2, #ARGV do
+              local key = string.match(ARGV[i], '^[^|]+')
+              if not oldestKey or key < oldestKey then
+                redis.call('RPUSH', KEYS[1], ARGV[i])
+              end
+            end
+            redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int capacity;
+    private final Duration redisTtl;
+    private final Cache<Long, RoomBuffer> buffers;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public RecentMessageCache(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+            @Value("${chat.recent-cache.capacity:101}") int capacity,
+            @Value("${chat.recent-cache.max-rooms:10000}") long maxRooms,
+            @Value("${chat.recent-cache.redis-ttl:1h}") Duration redisTtl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.capacity = capacity;
+        this.redisTtl = redisTtl;
+        this.buffers = Caffeine.newBuilder()
+                .maximumSize(maxRooms)
+                .build();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 컨슈머가 Mongo 저장을 마친 메시지를 채팅방별로 추가한다. messages는 오프셋 순서(과거 -> 최신)여야 한다. 배치가 재전달되어 이미 추가한
+     * 메시지가 다시 들어오면 로컬과 Redis 모두 가장 최근 항목보다 새롭지 않은 것은 건너뛴다.
+     */
+    public void append(int partition, Long roomId, List<Message> messages) {
+        buffers.asMap()
+                .computeIfAbsent(roomId, id -> new RoomBuffer(partition, capacity))
+                .append(messages);
+
+        List<String> args = new ArrayList<>(messages.size() + 2);
+        args.add(String.valueOf(capacity));
+        args.add(String.valueOf(redisTtl.toMillis()));
+        for (Message message : messages) {
+            args.add(toEntry(message));
+        }
+
+        try {
+            redisTemplate.execute(APPEND_SCRIPT, List.of(KEY_PREFIX + roomId), args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("최근 메시지 Redis 반영 실패: roomId={}, error={}", roomId, e.getMessage());
+        }
+    }
+
+    /**
+     * 최신 limit + 1건을 반환한다. 캐시로 처리할 수 없으면 null.
+     */
+    public Lookup find(Long roomId, int limit) {
+        RoomBuffer buffer = buffers.getIfPresent(roomId);
+        if (buffer != null) {
+            List<Message> local = buffer.latest(limit + 1);
+            if (local != null) {
+                localHits.increment();
+                return new Lookup(local, HIT_LOCAL);
+            }
+        }
+
+        List<Message> shared = findInRedis(roomId, limit + 1);
+        if (shared != null) {
+            redisHits.increment();
+            return new Lookup(shared, HIT_REDIS);
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Mongo에서 읽은 최신 페이지(최신순, 최대 용량만큼)로 불완전한 버퍼를 채운다.
+     */
+    public void fill(Long roomId, List<Message> latest) {
+        buffers.asMap().computeIfPresent(roomId, (id, buffer) -> {
+            buffer.merge(latest);
+            return buffer;
+        });
+
+        List<String> args = new ArrayList<>(latest.size() + 1);
+        args.add(String.valueOf(capacity));
+        for (Message message : latest) {
+            args.add(toEntry(message));
+        }
+
+        try {
+            redisTemplate.execute(MERGE_SCRIPT, List.of(KEY_PREFIX + roomId), args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("최근 메시지 Redis 병합 실패: roomId={}, error={}", roomId, e.getMessage());
+        }
+    }
+
+    /**
+     * 파티션을 잃으면 더 이상 추가가 들어오지 않으므로 해당 파티션에서 만든 로컬 버퍼를 버린다.
+     */
+    public void evictPartitions(Collection<Integer> partitions) {
+        Set<Integer> revoked = Set.copyOf(partitions);
+        buffers.asMap().values().removeIf(buffer -> revoked.contains(buffer.partition));
+    }
+
+    @Scheduled(fixedRateString = "${chat.recent-cache.stats-log-interval:300000}")
+    public void logStats() {
+        long local = localHits.sumThenReset();
+        long redis = redisHits.sumThenReset();
+        long miss = misses.sumThenReset();
+        if (local + redis + miss > 0) {
+            log.info("최근 메시지 캐시: local={}, redis={}, miss={}, rooms={}", local, redis, miss,
+                    buffers.estimatedSize());
+        }
+    }
+
+    private List<Message> findInRedis(Long roomId, int count) {
+        List<String> entries;
+        try {
+            entries = redisTemplate.opsForList().range(KEY_PREFIX + roomId, 0, count - 1);
+        } catch (DataAccessException e) {
+            log.warn("최근 메시지 Redis 조회 실패: roomId={}, error={}", roomId, e.getMessage());
+            return null;
+        }
+
+        if (entries == null || entries.isEmpty() || entries.contains(INCOMPLETE)) {
+            return null;
+        }
+
+        try {
+            List<Message> messages = new ArrayList<>(entries.size());
+            for (String entry : entries) {
+                messages.add(objectMapper.readValue(entry.substring(entry.indexOf('|') + 1), Message.class));
+            }
+            return messages;
+        } catch (JsonProcessingException e) {
+            log.warn("최근 메시지 Redis 항목 해석 실패: roomId={}, error={}", roomId, e.getMessage());
+            return null;
+        }
+    }
+
+    private String toEntry(Message message) {
+        try {
+            return sortKey(message) + "|" + objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Mongo 정렬 기준(sentAt, _id)과 같은 순서가 되도록 고정 길이로 만든다
+    private static String sortKey(Message message) {
+        long sentAt = (message.getSentAt() != null)
+                ? message.getSentAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0L;
+        return String.format("%013d", sentAt) + message.getId();
+    }
+
+    public record Lookup(List<Message> messages, String source) {
+    }
+
+    private static final class RoomBuffer {
+
+        private final int partition;
+        private final int capacity;
+        // 최신 -> 과거
+        private final Deque<Message> messages = new ArrayDeque<>();
+        private boolean complete;
+
+        RoomBuffer(int partition, int capacity) {
+            this.partition = partition;
+            this.capacity = capacity;
+        }
+
+        synchronized void append(List<Message> appended) {
+            String headKey = messages.isEmpty() ? null : sortKey(messages.peekFirst());
+            for (Message message : appended) {
+                String key = sortKey(message);
+                if (headKey == null || key.compareTo(headKey) > 0) {
+                    messages.addFirst(message);
+                    headKey = key;
+                }
+            }
+            trim();
+        }
+
+        synchronized void merge(List<Message> latest) {
+            if (complete) {
+                return;
+            }
+
+            String oldestKey = messages.isEmpty() ? null : sortKey(messages.peekLast());
+            for (Message message : latest) {
+                if (oldestKey == null || sortKey(message).compareTo(oldestKey) < 0) {
+                    messages.addLast(message);
+                }
+            }
+            complete = true;
+            trim();
+        }
+
+        synchronized List<Message> latest(int count) {
+            if (!complete && messages.size() < count) {
+                return null;
+            }
+            return messages.stream().limit(count).collect(Collectors.toList());
+        }
+
+        private void trim() {
+            while (messages.size() > capacity) {
+                messages.removeLast();
+            }
+            if (messages.size() == capacity) {
+                complete = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.techbridge.domain.chat.service;
+
+import com.example.techbridge.domain.chat.model.ChattingRoom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방 lastActivityAt 갱신을 모아서 처리한다. 메시지마다 조회/저장하지 않고 채팅방별 최신 시각만 기억해 두었다가 주기적으로 한 번의 bulk
+ * write로 반영한다. {@code $max}로 갱신하므로 여러 인스턴스가 동시에 써도 시각이 뒤로 가지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomActivityUpdater {
+
+    private final MongoTemplate mongoTemplate;
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public void touch(Long roomId, LocalDateTime activityAt) {
+        if (roomId == null || activityAt == null) {
+            return;
+        }
+        pending.merge(roomId, activityAt, RoomActivityUpdater::latest);
+    }
+
+    @Scheduled(fixedDelayString = "${chat.room-activity.flush-interval:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 반영에 성공한 뒤에만 지우도록 스냅샷으로 보낸다. 실패하면 다음 주기에 다시 보낸다
+        Map<Long, LocalDateTime> snapshot = new HashMap<>(pending);
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkMode.UNORDERED, ChattingRoom.class);
+        snapshot.forEach((roomId, activityAt) -> bulk.updateOne(Query.query(Criteria.where("roomId").is(roomId)),
+                new Update().max("lastActivityAt", activityAt)));
+
+        try {
+            bulk.execute();
+        } catch (Exception e) {
+            log.error("채팅방 활동 시간 갱신 실패: {}건, error={}", snapshot.size(), e.getMessage());
+            return;
+        }
+
+        // 그 사이 더 최근 시각이 들어온 채팅방은 남겨 둔다
+        snapshot.forEach(pending::remove);
+        log.debug("채팅방 활동 시간 {}건 갱신", snapshot.size());
+    }
+
+    private static LocalDateTime latest(LocalDateTime prev, LocalDateTime next) {
+        return next.isAfter(prev) ? next : prev;
+    }
+}
@@ -1,7 +1,7 @@
 package com.example.techbridge.domain.member.controller;
 
 import com.example.techbridge.auth.dto.LoginMember;
-import com.example.techbridge.auth.jwt.JwtTokenProvider;
+import com.example.techbridge.auth.jwt.VerifiedToken;
 import com.example.techbridge.auth.service.RefreshTokenService;
 import com.example.techbridge.auth.service.TokenBlacklistService;
 import com.example.techbridge.domain.member.dto.MemberDetailResponse;
@@ -12,7 +12,6 @@ import com.example.techbridge.domain.member.dto.SignUpRequestWrapper;
 import com.example.techbridge.domain.member.entity.Member;
 import com.example.techbridge.domain.member.service.MemberCommandService;
 import com.example.techbridge.domain.member.service.S3Uploader;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.net.URI;
 import java.net.URL;
@@ -26,6 +25,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -39,7 +39,6 @@ public class MemberCommandController {
     private final MemberCommandService memberCommandService;
     private final RefreshTokenService refreshTokenService;
     private final TokenBlacklistService blacklistService;
-    private final JwtTokenProvider jwtTokenProvider;
     private final S3Uploader s3Uploader;
 
     @PostMapping
@@ -57,6 +56,7 @@ public class MemberCommandController {
         @AuthenticationPrincipal LoginMember loginMember) {
 
         memberCommandService.changePassword(id, request, loginMember.getId());
+        blacklistService.revokeAll(loginMember.getId());
         return ResponseEntity.noContent().build();
     }
 
@@ -71,16 +71,15 @@ public class MemberCommandController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteMember(@PathVariable Long id,
         @AuthenticationPrincipal LoginMember loginMember,
-        HttpServletRequest request) {
+        @RequestAttribute(name = VerifiedToken.REQUEST_ATTRIBUTE, required = false) VerifiedToken token) {
         memberCommandService.deleteMember(id, loginMember.getId());
 
         refreshTokenService.deleteByMemberId(loginMember.getId());
 
-        String token = jwtTokenProvider.resolveBearer(request);
         if (token != null) {
-            String jti = jwtTokenProvider.getJti(token);
-            Duration ttl = jwtTokenProvider.getRemainingTTL(token);
-            blacklistService.blacklist(jti, ttl);
+            blacklistService.revoke(token);
+        } else {
+            blacklistService.revokeAll(loginMember.getId());
         }
 
         return ResponseEntity.noContent().build();
@@ -1,5 +1,6 @@
 package com.example.techbridge.domain.member.service;
 
+import com.example.techbridge.auth.service.PasswordHashingService;
 import com.example.techbridge.domain.member.dto.MemberUpdateRequest;
 import com.example.techbridge.domain.member.dto.MemberUpdateWrapper;
 import com.example.techbridge.domain.member.dto.PasswordChangeRequest;
@@ -23,7 +24,6 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,7 +38,7 @@ public class MemberCommandService {
     private final MemberRepository memberRepository;
     private final StudentService studentService;
     private final TutorService tutorService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final S3Uploader s3Uploader;
 
     private Map<Role, BiConsumer<Member, SignUpRequestWrapper>> postProcessors;
@@ -60,7 +60,7 @@ public class MemberCommandService {
         validateDuplicateUsername(request.getUsername());
         validateDuplicateEmail(request.getEmail());
 
-        Member member = Member.of(request, passwordEncoder::encode);
+        Member member = Member.of(request, passwordHashingService::encode);
         Member saved = memberRepository.save(member);
 
         if (saved.getRole() == Role.STUDENT && wrapper.getStudent() == null) {
@@ -84,15 +84,15 @@ public class MemberCommandService {
 
         validateSameMember(id, loginMemberId);
 
-        if (!passwordEncoder.matches(request.getCurrentPassword(), member.getPassword())) {
+        if (!passwordHashingService.matches(request.getCurrentPassword(), member.getPassword())) {
             throw new InvalidMemberPasswordException();
         }
 
-        if (passwordEncoder.matches(request.getNewPassword(), member.getPassword())) {
+        if (passwordHashingService.matches(request.getNewPassword(), member.getPassword())) {
             throw new SameAsOldPasswordException();
         }
 
-        member.encodePassword(passwordEncoder.encode(request.getNewPassword()));
+        member.encodePassword(passwordHashingService.encode(request.getNewPassword()));
     }
 
     @Transactional
@@ -1,5 +1,7 @@
 package com.example.techbridge.domain.notification.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,6 +16,7 @@ public class NotificationDto {
     private String notificationId;
     private Long userId;
     private Long senderId;
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long roomId;
     private String title;
     private String message;
@@ -21,6 +24,7 @@ public class NotificationDto {
     private LocalDateTime createdAt;
     private boolean isRead;
     private String senderName; // 발신자 이름 (선택적)
+    private Integer messageCount; // 하나로 묶인 메시지 수 (NEW_MESSAGE)
 
     public enum NotificationType {
         NEW_MESSAGE,    // 새 메시지
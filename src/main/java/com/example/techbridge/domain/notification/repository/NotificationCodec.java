@@ -0,0 +1,300 @@
+package com.example.techbridge.domain.notification.repository;
+
+import com.example.techbridge.domain.notification.dto.NotificationDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Redis에 저장하는 알림 본문 인코더. 쓰기 형식은 {@code notification.codec.format}(binary, json)으로 고르고, 읽을 때는 첫 바이트로 형식을
+ * 구분하므로 두 형식이 섞여 있어도 된다.
+ * <p>
+ * binary v1: [0x01][필드 존재 비트(varint)][필드...]. 숫자는 zigzag varint, 문자열은 길이(varint) + UTF-8, 생성 시각은 ms 단위로
+ * 저장한다. 필드 이름과 타입 정보를 반복하지 않으므로 JSON보다 작다. 필드를 추가할 때는 비트를 뒤에 붙이고, 배치를 바꿀 때는 버전을 올린다.
+ */
+@Component
+public class NotificationCodec {
+
+    public enum Format {
+        BINARY, JSON
+    }
+
+    static final byte BINARY_V1 = 0x01;
+    private static final byte JSON_START = '{';
+
+    private static final int NOTIFICATION_ID = 1;
+    private static final int NOTIFICATION_UUID = 1 << 1;
+    private static final int USER_ID = 1 << 2;
+    private static final int SENDER_ID = 1 << 3;
+    private static final int ROOM_ID = 1 << 4;
+    private static final int TITLE = 1 << 5;
+    private static final int MESSAGE = 1 << 6;
+    private static final int TYPE = 1 << 7;
+    private static final int CREATED_AT = 1 << 8;
+    private static final int SENDER_NAME = 1 << 9;
+    private static final int MESSAGE_COUNT = 1 << 10;
+
+    // NotificationType은 순서(ordinal)로 저장하므로 값을 추가할 때는 맨 뒤에 붙여야 한다
+    private static final NotificationDto.NotificationType[] TYPES = NotificationDto.NotificationType.values();
+
+    private final ObjectMapper objectMapper;
+    private final Format format;
+
+    public NotificationCodec(ObjectMapper objectMapper,
+            @Value("${notification.codec.format:binary}") Format format) {
+        this.objectMapper = objectMapper;
+        this.format = format;
+    }
+
+    public byte[] encode(NotificationDto notification) {
+        return (format == Format.BINARY) ? encodeBinary(notification) : encodeJson(notification);
+    }
+
+    public NotificationDto decode(byte[] payload) {
+        if (payload == null || payload.length == 0) {
+            throw new IllegalArgumentException("빈 알림 본문");
+        }
+        return switch (payload[0]) {
+            case BINARY_V1 -> decodeBinary(payload);
+            case JSON_START -> decodeJson(payload);
+            default -> throw new IllegalArgumentException("알 수 없는 알림 본문 형식: " + payload[0]);
+        };
+    }
+
+    private byte[] encodeJson(NotificationDto notification) {
+        try {
+            return objectMapper.writeValueAsBytes(notification);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private NotificationDto decodeJson(byte[] payload) {
+        try {
+            return objectMapper.readValue(payload, NotificationDto.class);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("알림 JSON 변환 실패", e);
+        }
+    }
+
+    private byte[] encodeBinary(NotificationDto n) {
+        UUID uuid = parseUuid(n.getNotificationId());
+        int fields = (n.getNotificationId() != null ? NOTIFICATION_ID : 0)
+                | (uuid != null ? NOTIFICATION_UUID : 0)
+                | (n.getUserId() != null ? USER_ID : 0)
+                | (n.getSenderId() != null ? SENDER_ID : 0)
+                | (n.getRoomId() != null ? ROOM_ID : 0)
+                | (n.getTitle() != null ? TITLE : 0)
+                | (n.getMessage() != null ? MESSAGE : 0)
+                | (n.getType() != null ? TYPE : 0)
+                | (n.getCreatedAt() != null ? CREATED_AT : 0)
+                | (n.getSenderName() != null ? SENDER_NAME : 0)
+                | (n.getMessageCount() != null ? MESSAGE_COUNT : 0);
+
+        Writer out = new Writer();
+        out.writeByte(BINARY_V1);
+        out.writeVarLong(fields);
+        if (uuid != null) {
+            out.writeFixedLong(uuid.getMostSignificantBits());
+            out.writeFixedLong(uuid.getLeastSignificantBits());
+        } else if (n.getNotificationId() != null) {
+            out.writeString(n.getNotificationId());
+        }
+        if (n.getUserId() != null) {
+            out.writeSignedVarLong(n.getUserId());
+        }
+        if (n.getSenderId() != null) {
+            out.writeSignedVarLong(n.getSenderId());
+        }
+        if (n.getRoomId() != null) {
+            out.writeSignedVarLong(n.getRoomId());
+        }
+        if (n.getTitle() != null) {
+            out.writeString(n.getTitle());
+        }
+        if (n.getMessage() != null) {
+            out.writeString(n.getMessage());
+        }
+        if (n.getType() != null) {
+            out.writeVarLong(n.getType().ordinal());
+        }
+        if (n.getCreatedAt() != null) {
+            out.writeSignedVarLong(n.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli());
+        }
+        if (n.getSenderName() != null) {
+            out.writeString(n.getSenderName());
+        }
+        if (n.getMessageCount() != null) {
+            out.writeVarLong(n.getMessageCount());
+        }
+        return out.toByteArray();
+    }
+
+    private NotificationDto decodeBinary(byte[] payload) {
+        Reader in = new Reader(payload, 1);
+        int fields = (int) in.readVarLong();
+
+        NotificationDto n = new NotificationDto();
+        if ((fields & NOTIFICATION_UUID) != 0) {
+            n.setNotificationId(new UUID(in.readFixedLong(), in.readFixedLong()).toString());
+        } else if ((fields & NOTIFICATION_ID) != 0) {
+            n.setNotificationId(in.readString());
+        }
+        if ((fields & USER_ID) != 0) {
+            n.setUserId(in.readSignedVarLong());
+        }
+        if ((fields & SENDER_ID) != 0) {
+            n.setSenderId(in.readSignedVarLong());
+        }
+        if ((fields & ROOM_ID) != 0) {
+            n.setRoomId(in.readSignedVarLong());
+        }
+        if ((fields & TITLE) != 0) {
+            n.setTitle(in.readString());
+        }
+        if ((fields & MESSAGE) != 0) {
+            n.setMessage(in.readString());
+        }
+        if ((fields & TYPE) != 0) {
+            long ordinal = in.readVarLong();
+            if (ordinal < 0 || ordinal >= TYPES.length) {
+                // 더 새로운 버전이 저장한 종류일 수 있다. 조회에서 이 알림만 건너뛰도록 IllegalArgumentException으로 알린다
+                throw new IllegalArgumentException("알 수 없는 알림 종류: " + ordinal);
+            }
+            n.setType(TYPES[(int) ordinal]);
+        }
+        if ((fields & CREATED_AT) != 0) {
+            n.setCreatedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(in.readSignedVarLong()), ZoneOffset.UTC));
+        }
+        if ((fields & SENDER_NAME) != 0) {
+            n.setSenderName(in.readString());
+        }
+        if ((fields & MESSAGE_COUNT) != 0) {
+            n.setMessageCount((int) in.readVarLong());
+        }
+        return n;
+    }
+
+    // 소문자 표준 형식일 때만 16바이트로 저장한다. 다시 문자열로 만들었을 때 같아야 하기 때문
+    private static UUID parseUuid(String id) {
+        if (id == null || id.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static final class Writer {
+
+        private byte[] buf = new byte[128];
+        private int pos;
+
+        void writeByte(int b) {
+            ensure(1);
+            buf[pos++] = (byte) b;
+        }
+
+        void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buf[pos++] = (byte) value;
+        }
+
+        void writeSignedVarLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeFixedLong(long value) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buf[pos++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buf, pos, bytes.length);
+            pos += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, pos);
+        }
+
+        private void ensure(int size) {
+            if (pos + size > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + size));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buf;
+        private int pos;
+
+        Reader(byte[] buf, int pos) {
+            this.buf = buf;
+            this.pos = pos;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = next();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("잘못된 varint");
+        }
+
+        long readSignedVarLong() {
+            long raw = readVarLong();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        long readFixedLong() {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (next() & 0xFF);
+            }
+            return value;
+        }
+
+        String readString() {
+            int length = (int) readVarLong();
+            if (length < 0 || pos + length > buf.length) {
+                throw new IllegalArgumentException("잘못된 문자열 길이: " + length);
+            }
+            String value = new String(buf, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+            return value;
+        }
+
+        private byte next() {
+            if (pos >= buf.length) {
+                throw new IllegalArgumentException("알림 본문이 잘렸습니다.");
+            }
+            return buf[pos++];
+        }
+    }
+}
@@ -0,0 +1,540 @@
+package com.example.techbridge.domain.notification.repository;
+
+import com.example.techbridge.domain.notification.dto.NotificationDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별 알림 저장소.
+ * <ul>
+ *     <li>{@code notifications:ids:{userId}} - ZSET. 알림 id, 점수는 생성 시각(ms)</li>
+ *     <li>{@code notifications:data:{userId}} - HASH. {@code {id}} -> 알림 본문({@link NotificationCodec}), {@code {id}:r} -> 읽음 표시,
+ *     {@code wm} -> 읽음 기준 시각(ms)</li>
+ *     <li>{@code notifications:unread:{userId}} - 읽지 않은 알림 수</li>
+ *     <li>{@code notifications:cleanup-index} - ZSET. 사용자 id, 점수는 그 사용자의 가장 오래된 알림 시각(ms). 정리 대상만 찾기 위한 색인</li>
+ *     <li>{@code notifications:coalesce:{userId}:{roomId}} - HASH. {@code id} -> 묶음 시간 안에 만든 새 메시지 알림 id,
+ *     {@code count} -> 묶인 메시지 수. 묶음 시간이 TTL이다</li>
+ * </ul>
+ * 점수가 읽음 기준 시각 이하이거나 읽음 표시가 있으면 읽은 알림이다. 모두 읽음은 기준 시각만 옮기므로 알림 수와 관계없이 한 번에 끝나고, 새 알림은
+ * 항상 기준 시각보다 큰 점수로 저장해 읽지 않은 수가 정확히 유지된다. 읽음/삭제는 id로 바로 찾아 Lua 스크립트 한 번에 읽지 않은 수와 함께
+ * 갱신한다. 이미 있는 id로 저장하면 본문과 점수만 바꾸고(제자리 갱신) 읽지 않은 알림이었다면 읽지 않은 수를 올리지 않는다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class NotificationRedisRepository {
+
+    private static final String IDS_KEY = "notifications:ids:";
+    private static final String DATA_KEY = "notifications:data:";
+    private static final String UNREAD_COUNT_KEY = "notifications:unread:";
+    private static final String CLEANUP_INDEX_KEY = "notifications:cleanup-index";
+    private static final String COALESCE_KEY = "notifications:coalesce:";
+    // 이전 저장 방식(알림 JSON 전체를 멤버로 갖는 ZSET)
+    private static final String LEGACY_KEY = "notifications:user:";
+    // 이전 중인 사용자의 키. 옮기던 노드가 죽으면 남으므로 다음 기동에서 이어서 옮긴다
+    private static final String MIGRATING_SUFFIX = ":migrating";
+    // 이전이 끝났음을 기록한다. 있으면 기동할 때 키 공간을 다시 훑지 않는다
+    private static final String MIGRATION_DONE_KEY = "notifications:migration:legacy-v1";
+    private static final String READ_SUFFIX = ":r";
+
+    // 알림 TTL (7일)
+    public static final Duration NOTIFICATION_TTL = Duration.ofDays(7);
+
+    private static final String WATERMARK_FIELD = "wm";
+
+    // KEYS: ids, data, unread, cleanup-index, [coalesce] / ARGV: id, 점수(ms), 본문, TTL(ms), userId, [메시지 수, 묶음 시간(ms)]
+    // 이미 있는 알림이면 읽음 표시를 지우고 본문과 점수만 바꾼다. 새 알림이고 coalesce 키가 있으면 묶음 대상으로 등록한다
+    private static final String SAVE_SCRIPT = """
+            local wm = tonumber(redis.call('HGET', KEYS[2], 'wm') or '0')
+            local score = tonumber(ARGV[2])
+            if score <= wm then
+              score = wm + 1
+            end
+            local existing = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            local wasUnread = false
+            if existing then
+              local flagged = redis.call('HDEL', KEYS[2], ARGV[1] .. ':r') == 1
+              wasUnread = tonumber(existing) > wm and not flagged
+            end
+            redis.call('ZADD', KEYS[1], score, ARGV[1])
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+            if not wasUnread then
+              redis.call('INCR', KEYS[3])
+            end
+            for i = 1, 3 do
+              redis.call('PEXPIRE', KEYS[i], ARGV[4])
+            end
+            redis.call('ZADD', KEYS[4], 'NX', score, ARGV[5])
+            if #KEYS == 5 and not existing then
+              redis.call('HSET', KEYS[5], 'id', ARGV[1], 'count', ARGV[6])
+              redis.call('PEXPIRE', KEYS[5], ARGV[7])
+            end
+            return score
+            """;
+
+    // KEYS: ids, data, cleanup-index / ARGV: id, 점수(ms), 본문, TTL(ms), userId, 읽음 여부(1/0)
+    // 이전 알림을 옮긴다. 읽지 않은 수는 이전과 같은 키에 이미 반영되어 있으므로 건드리지 않는다
+    private static final String MIGRATE_SCRIPT = """
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+            if ARGV[6] == '1' then
+              redis.call('HSET', KEYS[2], ARGV[1] .. ':r', '1')
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            redis.call('ZADD', KEYS[3], 'NX', ARGV[2], ARGV[5])
+            return 1
+            """;
+
+    // KEYS: coalesce, ids, data / ARGV: 더할 메시지 수
+    // 묶음 대상 알림이 아직 읽지 않은 채로 남아 있으면 메시지 수를 더해 {id, 합계}를 반환한다. 아니면 묶음을 끝내고 빈 배열을 반환한다
+    private static final String CLAIM_COALESCE_SCRIPT = """
+            local id = redis.call('HGET', KEYS[1], 'id')
+            if not id then
+              return {}
+            end
+            local score = redis.call('ZSCORE', KEYS[2], id)
+            local wm = tonumber(redis.call('HGET', KEYS[3], 'wm') or '0')
+            if not score or tonumber(score) <= wm or redis.call('HEXISTS', KEYS[3], id .. ':r') == 1 then
+              redis.call('DEL', KEYS[1])
+              return {}
+            end
+            return {id, redis.call('HINCRBY', KEYS[1], 'count', ARGV[1])}
+            """;
+
+    // KEYS: ids, data, unread / ARGV: id
+    private static final RedisScript<Long> MARK_READ_SCRIPT = new DefaultRedisScript<>("""
+            local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if not score then
+              return 0
+            end
+            if tonumber(score) <= tonumber(redis.call('HGET', KEYS[2], 'wm') or '0') then
+              return 0
+            end
+            if redis.call('HSETNX', KEYS[2], ARGV[1] .. ':r', '1') == 0 then
+              return 0
+            end
+            if redis.call('DECR', KEYS[3]) < 0 then
+              redis.call('SET', KEYS[3], 0, 'KEEPTTL')
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS: ids, data, unread / ARGV: id
+    private static final RedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>("""
+            local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if not score then
+              return 0
+            end
+            local wm = tonumber(redis.call('HGET', KEYS[2], 'wm') or '0')
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            redis.call('HDEL', KEYS[2], ARGV[1])
+            if redis.call('HDEL', KEYS[2], ARGV[1] .. ':r') == 0 and tonumber(score) > wm then
+              if redis.call('DECR', KEYS[3]) < 0 then
+                redis.call('SET', KEYS[3], 0, 'KEEPTTL')
+              end
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS: ids, data, unread. 가장 최근 알림의 점수로 기준 시각을 옮긴다. 반환값은 읽음 처리 전 읽지 않은 수
+    private static final RedisScript<Long> MARK_ALL_READ_SCRIPT = new DefaultRedisScript<>("""
+            local latest = redis.call('ZREVRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+            local unread = tonumber(redis.call('GET', KEYS[3]) or '0')
+            if #latest == 0 then
+              return 0
+            end
+            local wm = tonumber(redis.call('HGET', KEYS[2], 'wm') or '0')
+            if tonumber(latest[2]) > wm then
+              redis.call('HSET', KEYS[2], 'wm', latest[2])
+            end
+            redis.call('SET', KEYS[3], 0, 'KEEPTTL')
+            return unread
+            """, Long.class);
+
+    // KEYS: ids, data, unread, cleanup-index / ARGV: 기준 시각(ms), userId
+    // 기준 이전 알림을 지우고 그중 읽지 않은 수만큼 카운터를 줄인 뒤, 색인 점수를 남은 가장 오래된 알림 시각으로 옮긴다
+    private static final String TRIM_SCRIPT = """
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'WITHSCORES')
+            local wm = tonumber(redis.call('HGET', KEYS[2], 'wm') or '0')
+            local unread = 0
+            for i = 1, #ids, 2 do
+              redis.call('HDEL', KEYS[2], ids[i])
+              if redis.call('HDEL', KEYS[2], ids[i] .. ':r') == 0 and tonumber(ids[i + 1]) > wm then
+                unread = unread + 1
+              end
+            end
+            if #ids > 0 then
+              redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1])
+            end
+            if unread > 0 and redis.call('EXISTS', KEYS[3]) == 1 and redis.call('DECRBY', KEYS[3], unread) < 0 then
+              redis.call('SET', KEYS[3], 0, 'KEEPTTL')
+            end
+            local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+            if #oldest == 0 then
+              redis.call('ZREM', KEYS[4], ARGV[2])
+            else
+              redis.call('ZADD', KEYS[4], oldest[2], ARGV[2])
+            end
+            return #ids / 2
+            """;
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final NotificationCodec notificationCodec;
+
+    /**
+     * 알림들을 하나의 파이프라인으로 저장하고 읽지 않은 수를 올린다. notificationId와 createdAt이 채워져 있어야 한다. 알림마다 저장
+     * 스크립트를 EVAL로 보낸다(파이프라인 안에서는 EVALSHA의 NOSCRIPT 재시도를 할 수 없다).
+     */
+    public void saveAll(List<NotificationDto> notifications) {
+        saveAll(notifications, null);
+    }
+
+    /**
+     * coalesceWindow가 있으면 새로 만든 새 메시지 알림을 그 시간 동안 (받는 사람, 채팅방)의 묶음 대상으로 등록한다. 이후 같은 채팅방의 알림은
+     * {@link #claimCoalesced}로 받은 id로 저장해 제자리에서 갱신한다.
+     */
+    public void saveAll(List<NotificationDto> notifications, Duration coalesceWindow) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        byte[] script = SAVE_SCRIPT.getBytes(StandardCharsets.UTF_8);
+        byte[] ttl = bytes(String.valueOf(NOTIFICATION_TTL.toMillis()));
+        byte[] window = (coalesceWindow != null) ? bytes(String.valueOf(coalesceWindow.toMillis())) : null;
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (NotificationDto notification : notifications) {
+                Long userId = notification.getUserId();
+                byte[][] keysAndArgs = {
+                        bytes(IDS_KEY + userId), bytes(DATA_KEY + userId), bytes(UNREAD_COUNT_KEY + userId),
+                        bytes(CLEANUP_INDEX_KEY),
+                        bytes(notification.getNotificationId()), bytes(String.valueOf(score(notification))),
+                        notificationCodec.encode(notification), ttl, bytes(String.valueOf(userId))};
+                if (window != null && isCoalescable(notification)) {
+                    connection.scriptingCommands().eval(script, ReturnType.INTEGER, 5,
+                            keysAndArgs[0], keysAndArgs[1], keysAndArgs[2], keysAndArgs[3],
+                            bytes(coalesceKey(notification)),
+                            keysAndArgs[4], keysAndArgs[5], keysAndArgs[6], keysAndArgs[7], keysAndArgs[8],
+                            bytes(String.valueOf(notification.getMessageCount())), window);
+                } else {
+                    connection.scriptingCommands().eval(script, ReturnType.INTEGER, 4, keysAndArgs);
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 새 메시지 알림마다 (받는 사람, 채팅방)의 묶음 대상 알림을 찾아 messageCount만큼 메시지 수를 더한다. 하나의 파이프라인으로 보낸다.
+     *
+     * @return notifications와 같은 순서로, 합칠 알림이 있으면 그 id와 합계, 없으면 null
+     */
+    public List<Coalesced> claimCoalesced(List<NotificationDto> notifications) {
+        List<Coalesced> claims = new ArrayList<>(notifications.size());
+        if (notifications.isEmpty()) {
+            return claims;
+        }
+
+        byte[] script = CLAIM_COALESCE_SCRIPT.getBytes(StandardCharsets.UTF_8);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (NotificationDto notification : notifications) {
+                Long userId = notification.getUserId();
+                connection.scriptingCommands().eval(script, ReturnType.MULTI, 3,
+                        bytes(coalesceKey(notification)), bytes(IDS_KEY + userId), bytes(DATA_KEY + userId),
+                        bytes(String.valueOf(notification.getMessageCount())));
+            }
+            return null;
+        });
+
+        for (Object result : results) {
+            if (result instanceof List<?> values && values.size() == 2) {
+                claims.add(new Coalesced(asString(values.get(0)), Integer.parseInt(asString(values.get(1)))));
+            } else {
+                claims.add(null);
+            }
+        }
+        return claims;
+    }
+
+    /**
+     * 최신순 [start, end] 구간의 알림을 조회한다. 본문, 읽음 표시, 읽음 기준 시각은 HMGET 한 번으로 읽는다. 본문은 binary일 수 있으므로
+     * 문자열로 바꾸지 않고 바이트 그대로 읽는다.
+     */
+    public List<NotificationDto> findPage(Long userId, long start, long end) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                stringRedisTemplate.opsForZSet().reverseRangeWithScores(IDS_KEY + userId, start, end);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+
+        byte[][] fields = new byte[tuples.size() * 2 + 1][];
+        fields[0] = bytes(WATERMARK_FIELD);
+        int f = 1;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            fields[f++] = bytes(tuple.getValue());
+            fields[f++] = bytes(tuple.getValue() + READ_SUFFIX);
+        }
+        List<byte[]> values = stringRedisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                connection.hashCommands().hMGet(bytes(DATA_KEY + userId), fields));
+        if (values == null) {
+            return List.of();
+        }
+        double watermark = (values.get(0) != null)
+                ? Double.parseDouble(new String(values.get(0), StandardCharsets.UTF_8))
+                : 0;
+
+        List<NotificationDto> notifications = new ArrayList<>(tuples.size());
+        int i = 1;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            NotificationDto notification = decode(values.get(i));
+            if (notification != null) {
+                notification.setRead(values.get(i + 1) != null || tuple.getScore() <= watermark);
+                notifications.add(notification);
+            }
+            i += 2;
+        }
+        return notifications;
+    }
+
+    public long unreadCount(Long userId) {
+        String count = stringRedisTemplate.opsForValue().get(UNREAD_COUNT_KEY + userId);
+        return (count != null) ? Long.parseLong(count) : 0;
+    }
+
+    /**
+     * @return 읽지 않은 알림을 읽음으로 바꿨으면 true
+     */
+    public boolean markRead(Long userId, String notificationId) {
+        Long result = stringRedisTemplate.execute(MARK_READ_SCRIPT,
+                List.of(IDS_KEY + userId, DATA_KEY + userId, UNREAD_COUNT_KEY + userId), notificationId);
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 읽음 기준 시각을 가장 최근 알림으로 옮긴다. 알림 수와 관계없이 스크립트 한 번으로 끝난다.
+     *
+     * @return 읽음 처리한 알림 수
+     */
+    public long markAllRead(Long userId) {
+        Long count = stringRedisTemplate.execute(MARK_ALL_READ_SCRIPT,
+                List.of(IDS_KEY + userId, DATA_KEY + userId, UNREAD_COUNT_KEY + userId));
+        return (count != null) ? count : 0;
+    }
+
+    /**
+     * @return 알림이 있어서 지웠으면 true
+     */
+    public boolean delete(Long userId, String notificationId) {
+        Long result = stringRedisTemplate.execute(DELETE_SCRIPT,
+                List.of(IDS_KEY + userId, DATA_KEY + userId, UNREAD_COUNT_KEY + userId), notificationId);
+        return result != null && result == 1L;
+    }
+
+    /**
+     * cutoffMillis 이전에 생성된 알림이 있는 사용자를 최대 limit명 조회한다. 색인만 읽으므로 전체 키를 훑지 않는다.
+     */
+    public List<Long> findUsersWithNotificationsOlderThan(long cutoffMillis, int limit) {
+        Set<String> members = stringRedisTemplate.opsForZSet()
+                .rangeByScore(CLEANUP_INDEX_KEY, Double.NEGATIVE_INFINITY, cutoffMillis, 0, limit);
+        if (members == null) {
+            return List.of();
+        }
+
+        List<Long> userIds = new ArrayList<>(members.size());
+        for (String member : members) {
+            userIds.add(Long.parseLong(member));
+        }
+        return userIds;
+    }
+
+    /**
+     * 사용자들의 cutoffMillis 이전 알림을 지운다. 사용자별 정리 스크립트를 하나의 파이프라인으로 보낸다.
+     *
+     * @return 지운 알림 수
+     */
+    public long trimOlderThan(List<Long> userIds, long cutoffMillis) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        byte[] script = TRIM_SCRIPT.getBytes(StandardCharsets.UTF_8);
+        byte[] cutoff = bytes(String.valueOf(cutoffMillis));
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : userIds) {
+                connection.scriptingCommands().eval(script, ReturnType.INTEGER, 4,
+                        bytes(IDS_KEY + userId), bytes(DATA_KEY + userId), bytes(UNREAD_COUNT_KEY + userId),
+                        bytes(CLEANUP_INDEX_KEY), cutoff, bytes(String.valueOf(userId)));
+            }
+            return null;
+        });
+
+        long removed = 0;
+        for (Object result : results) {
+            if (result instanceof Number number) {
+                removed += number.longValue();
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 이전 방식(JSON ZSET)으로 저장된 알림을 새 구조로 옮긴다. 여러 노드가 동시에 실행해도 RENAME으로 키를 먼저 가져간 노드만 옮긴다. 읽지 않은
+     * 수는 이전과 같은 키를 쓰므로 그대로 둔다. 옮기던 노드가 죽어 남은 {@code :migrating} 키도 이어서 옮긴다(같은 알림을 다시 써도 결과가
+     * 같다). 이전 키가 하나도 남지 않았을 때만 완료 표시를 남겨 이후 기동에서는 키 공간을 훑지 않는다.
+     */
+    public int migrateLegacy() {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(MIGRATION_DONE_KEY))) {
+            return 0;
+        }
+
+        int migrated = 0;
+        for (String key : scanKeys(LEGACY_KEY + "*")) {
+            Long userId = legacyUserId(key);
+            if (userId == null) {
+                continue;
+            }
+            String claimedKey = LEGACY_KEY + userId + MIGRATING_SUFFIX;
+            if (!key.equals(claimedKey) && !claim(key, claimedKey)) {
+                continue;
+            }
+
+            Set<ZSetOperations.TypedTuple<Object>> tuples =
+                    redisTemplate.opsForZSet().rangeWithScores(claimedKey, 0, -1);
+            List<NotificationDto> notifications = new ArrayList<>();
+            for (ZSetOperations.TypedTuple<Object> tuple : (tuples != null) ? tuples : Set.of()) {
+                try {
+                    notifications.add(objectMapper.convertValue(tuple.getValue(), NotificationDto.class));
+                } catch (IllegalArgumentException e) {
+                    log.warn("이전 알림 변환 실패: userId={}, error={}", userId, e.getMessage());
+                }
+            }
+
+            migrate(userId, notifications);
+            redisTemplate.delete(claimedKey);
+            migrated++;
+        }
+
+        // 다른 노드가 아직 옮기는 중이거나 실패한 키가 있으면 다음 기동에서 다시 확인한다
+        if (scanKeys(LEGACY_KEY + "*").isEmpty()) {
+            stringRedisTemplate.opsForValue().set(MIGRATION_DONE_KEY, "1");
+        } else {
+            log.info("이전 방식 알림 키가 남아 있어 다음 기동에서 다시 옮깁니다.");
+        }
+        return migrated;
+    }
+
+    private boolean claim(String legacyKey, String claimedKey) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.renameIfAbsent(legacyKey, claimedKey));
+        } catch (RuntimeException e) {
+            // 다른 노드가 먼저 가져갔다
+            return false;
+        }
+    }
+
+    // 읽지 않은 수를 읽고 다시 쓰지 않도록 카운터를 건드리지 않는 스크립트로 옮긴다. 그 사이 들어온 새 알림의 INCR이 사라지지 않는다
+    private void migrate(Long userId, List<NotificationDto> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        byte[] script = MIGRATE_SCRIPT.getBytes(StandardCharsets.UTF_8);
+        byte[] ttl = bytes(String.valueOf(NOTIFICATION_TTL.toMillis()));
+        byte[] idsKey = bytes(IDS_KEY + userId);
+        byte[] dataKey = bytes(DATA_KEY + userId);
+        byte[] member = bytes(String.valueOf(userId));
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (NotificationDto notification : notifications) {
+                connection.scriptingCommands().eval(script, ReturnType.INTEGER, 3,
+                        idsKey, dataKey, bytes(CLEANUP_INDEX_KEY),
+                        bytes(notification.getNotificationId()), bytes(String.valueOf(score(notification))),
+                        notificationCodec.encode(notification), ttl, member,
+                        bytes(notification.isRead() ? "1" : "0"));
+            }
+            return null;
+        });
+    }
+
+    private List<String> scanKeys(String pattern) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(500).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+            }
+        }
+        return keys;
+    }
+
+    // notifications:user:{id} 또는 notifications:user:{id}:migrating에서 사용자 id를 꺼낸다
+    private static Long legacyUserId(String key) {
+        String id = key.substring(LEGACY_KEY.length());
+        if (id.endsWith(MIGRATING_SUFFIX)) {
+            id = id.substring(0, id.length() - MIGRATING_SUFFIX.length());
+        }
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean isCoalescable(NotificationDto notification) {
+        return notification.getType() == NotificationDto.NotificationType.NEW_MESSAGE
+                && notification.getRoomId() != null
+                && notification.getMessageCount() != null;
+    }
+
+    private static String coalesceKey(NotificationDto notification) {
+        return COALESCE_KEY + notification.getUserId() + ":" + notification.getRoomId();
+    }
+
+    private static String asString(Object value) {
+        return (value instanceof byte[] raw) ? new String(raw, StandardCharsets.UTF_8) : String.valueOf(value);
+    }
+
+    private static long score(NotificationDto notification) {
+        return notification.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private NotificationDto decode(byte[] payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return notificationCodec.decode(payload);
+        } catch (IllegalArgumentException e) {
+            log.error("알림 변환 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 합칠 알림의 id와 합친 뒤의 메시지 수
+     */
+    public record Coalesced(String notificationId, int messageCount) {
+    }
+}
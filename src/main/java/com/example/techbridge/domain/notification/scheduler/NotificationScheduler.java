@@ -1,11 +1,18 @@
 package com.example.techbridge.domain.notification.scheduler;
 
 import com.example.techbridge.domain.notification.service.NotificationService;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -13,20 +20,55 @@ public class NotificationScheduler {
 
     private final NotificationService notificationService;
 
+    // 정리는 배치 사이에 쉬어 가며 오래 걸리므로 공유 스케줄러 스레드를 잡지 않도록 전용 스레드에서 실행한다
+    private final ExecutorService cleanupExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notification-cleanup");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean cleanupRunning = new AtomicBoolean();
+
     /**
-     * 매일 새벽 2시에 오래된 알림 정리
+     * 기동 시 이전 방식으로 저장된 알림을 새 구조로 옮긴다
      */
-    @Scheduled(cron = "0 0 2 * * *")
-    public void cleanupOldNotifications() {
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyNotifications() {
         try {
-            log.info("오래된 알림 정리 작업 시작");
-            notificationService.cleanupOldNotifications();
-            log.info("오래된 알림 정리 작업 완료");
+            notificationService.migrateLegacyNotifications();
         } catch (Exception e) {
-            log.error("오래된 알림 정리 작업 실패: {}", e.getMessage(), e);
+            log.error("이전 방식 알림 이전 실패: {}", e.getMessage(), e);
         }
     }
 
+    /**
+     * 오래된 알림 정리. 정리 색인으로 대상 사용자만 처리하므로 하루 한 번 몰아서 하지 않고 매시 정각에 나눠서 실행한다. 스케줄러 스레드는
+     * 전용 스레드에 넘기기만 하고, 이전 정리가 아직 끝나지 않았으면 이번 실행은 건너뛴다
+     */
+    @Scheduled(cron = "${notification.cleanup.cron:0 0 * * * *}")
+    public void cleanupOldNotifications() {
+        if (!cleanupRunning.compareAndSet(false, true)) {
+            log.warn("이전 알림 정리 작업이 아직 실행 중이어서 건너뜀");
+            return;
+        }
+        cleanupExecutor.execute(() -> {
+            try {
+                log.info("오래된 알림 정리 작업 시작");
+                notificationService.cleanupOldNotifications();
+                log.info("오래된 알림 정리 작업 완료");
+            } catch (Exception e) {
+                log.error("오래된 알림 정리 작업 실패: {}", e.getMessage(), e);
+            } finally {
+                cleanupRunning.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdownCleanup() {
+        // 배치 사이 대기 중이면 깨워 남은 사용자는 다음 기동 후 실행에 맡긴다
+        cleanupExecutor.shutdownNow();
+    }
+
     /**
      * 매 30분마다 오프라인 사용자 정리 (선택적)
      * Redis TTL로 자동 처리되지만 추가적인 정리를 위해
@@ -1,16 +1,19 @@
 package com.example.techbridge.domain.notification.service;
 
 import com.example.techbridge.domain.notification.dto.NotificationDto;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.techbridge.domain.notification.repository.NotificationRedisRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -24,39 +27,36 @@ public class NotificationService {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final SimpMessagingTemplate messagingTemplate;
-    private final ObjectMapper objectMapper;
+    private final NotificationRedisRepository notificationRedisRepository;
+
+    // 알림 정리 한 번에 처리할 사용자 수와 배치 간 대기 시간
+    @Value("${notification.cleanup.batch-size:200}")
+    private int cleanupBatchSize;
+
+    @Value("${notification.cleanup.max-users-per-run:20000}")
+    private int cleanupMaxUsersPerRun;
+
+    @Value("${notification.cleanup.batch-pause-millis:20}")
+    private long cleanupBatchPauseMillis;
+
+    // 같은 채팅방의 새 메시지 알림을 하나로 묶는 시간. 첫 알림부터 재며, 지나면 새 알림을 만든다
+    @Value("${notification.coalesce.window:60s}")
+    private Duration coalesceWindow;
 
     // Redis Key 상수들
-    private static final String USER_NOTIFICATIONS_KEY = "notifications:user:";
-    private static final String UNREAD_COUNT_KEY = "notifications:unread:";
     private static final String USER_ONLINE_KEY = "users:online:";
     private static final String NOTIFICATION_SETTINGS_KEY = "notifications:settings:";
 
-    // 알림 TTL (7일)
-    private static final long NOTIFICATION_TTL_DAYS = 7;
-
     /**
      * 새 알림 생성 및 전송
      */
     public void createAndSendNotification(NotificationDto notification) {
         try {
             // 알림 ID 생성
-            String notificationId = UUID.randomUUID().toString();
-            notification.setNotificationId(notificationId);
-            notification.setCreatedAt(LocalDateTime.now());
-            notification.setRead(false);
-
-            // Redis에 알림 저장 (Sorted Set 사용 - 시간순 정렬)
-            String userNotificationsKey = USER_NOTIFICATIONS_KEY + notification.getUserId();
-            double score = notification.getCreatedAt().toEpochSecond(ZoneOffset.UTC);
+            prepare(notification, LocalDateTime.now());
 
-            redisTemplate.opsForZSet().add(userNotificationsKey, notification, score);
-
-            // TTL 설정
-            redisTemplate.expire(userNotificationsKey, NOTIFICATION_TTL_DAYS, TimeUnit.DAYS);
-
-            // 읽지 않은 알림 수 증가
-            incrementUnreadCount(notification.getUserId());
+            // Redis에 알림 저장 (id ZSET + 본문 HASH, 읽지 않은 알림 수 증가)
+            notificationRedisRepository.saveAll(List.of(notification));
 
             // 사용자가 온라인이면 실시간 알림 전송
             if (isUserOnline(notification.getUserId())) {
@@ -71,23 +71,103 @@ public class NotificationService {
         }
     }
 
+    /**
+     * 여러 알림을 한 번에 저장하고 전송한다. 알림별 저장 스크립트를 하나의 파이프라인으로 보내고, 접속 여부는
+     * onlineUserIds(호출자가 {@link #getOnlineUsers}로 미리 조회한 값)로 판단해 Redis를 다시 조회하지 않는다.
+     */
+    public void createAndSendNotifications(List<NotificationDto> notifications, Set<Long> onlineUserIds) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (NotificationDto notification : notifications) {
+            prepare(notification, now);
+        }
+
+        try {
+            notificationRedisRepository.saveAll(notifications);
+        } catch (Exception e) {
+            log.error("알림 일괄 생성 실패: count={}, error={}", notifications.size(), e.getMessage(), e);
+            return;
+        }
+
+        for (NotificationDto notification : notifications) {
+            if (onlineUserIds.contains(notification.getUserId())) {
+                sendRealTimeNotification(notification);
+            }
+        }
+        log.info("알림 일괄 생성 완료: count={}", notifications.size());
+    }
+
+    /**
+     * 새 메시지 알림을 (받는 사람, 채팅방)별로 묶어 저장하고 전송한다. notifications는 호출자가 배치 안에서 이미 묶은 것으로, 마지막 메시지의
+     * 내용과 묶인 메시지 수(messageCount)를 갖는다. 묶음 시간 안에 만든 알림이 아직 읽지 않은 채로 남아 있으면 새로 만들지 않고 그 알림의
+     * 본문과 메시지 수를 갱신하며, 이때는 읽지 않은 수를 올리지 않는다.
+     */
+    public void createCoalescedMessageNotifications(List<NotificationDto> notifications, Set<Long> onlineUserIds) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int coalesced = 0;
+        try {
+            List<NotificationRedisRepository.Coalesced> claims =
+                    notificationRedisRepository.claimCoalesced(notifications);
+            for (int i = 0; i < notifications.size(); i++) {
+                NotificationDto notification = notifications.get(i);
+                NotificationRedisRepository.Coalesced claim = claims.get(i);
+                prepare(notification, now);
+                if (claim != null) {
+                    notification.setNotificationId(claim.notificationId());
+                    notification.setMessageCount(claim.messageCount());
+                    coalesced++;
+                }
+                notification.setTitle(messageTitle(notification.getMessageCount()));
+            }
+            notificationRedisRepository.saveAll(notifications, coalesceWindow);
+        } catch (Exception e) {
+            log.error("메시지 알림 생성 실패: count={}, error={}", notifications.size(), e.getMessage(), e);
+            return;
+        }
+
+        for (NotificationDto notification : notifications) {
+            if (onlineUserIds.contains(notification.getUserId())) {
+                sendRealTimeNotification(notification);
+            }
+        }
+        log.info("메시지 알림 생성 완료: count={}, coalesced={}", notifications.size(), coalesced);
+    }
+
     /**
      * 메시지 기반 알림 생성
      */
     public void createMessageNotification(Long receiverId, Long senderId, Long roomId,
                                           String message, String senderName) {
-        NotificationDto notification = NotificationDto.builder()
+        createAndSendNotification(messageNotification(receiverId, senderId, roomId, message, senderName));
+    }
+
+    /**
+     * 메시지 기반 알림 객체 생성 (저장하지 않음)
+     */
+    public NotificationDto messageNotification(Long receiverId, Long senderId, Long roomId,
+                                               String message, String senderName) {
+        return NotificationDto.builder()
                 .userId(receiverId)
                 .senderId(senderId)
                 .roomId(roomId)
-                .title("새 메시지")
+                .title(messageTitle(1))
                 .message(senderName + ": " + (message.length() > 50 ?
                         message.substring(0, 50) + "..." : message))
                 .type(NotificationDto.NotificationType.NEW_MESSAGE)
                 .senderName(senderName)
+                .messageCount(1)
                 .build();
+    }
 
-        createAndSendNotification(notification);
+    private static String messageTitle(Integer messageCount) {
+        return (messageCount != null && messageCount > 1) ? "새 메시지 " + messageCount + "개" : "새 메시지";
     }
 
     /**
@@ -95,111 +175,57 @@ public class NotificationService {
      */
     public void createUserActivityNotification(Long userId, Long roomId, String userName,
                                                NotificationDto.NotificationType type) {
+        createAndSendNotification(userActivityNotification(userId, roomId, userName, type));
+    }
+
+    /**
+     * 사용자 입장/퇴장 알림 객체 생성 (저장하지 않음)
+     */
+    public NotificationDto userActivityNotification(Long userId, Long roomId, String userName,
+                                                    NotificationDto.NotificationType type) {
         String message = type == NotificationDto.NotificationType.USER_JOIN ?
                 userName + "님이 채팅방에 입장했습니다." :
                 userName + "님이 채팅방을 나갔습니다.";
 
-        NotificationDto notification = NotificationDto.builder()
+        return NotificationDto.builder()
                 .userId(userId)
                 .roomId(roomId)
                 .title("채팅방 활동")
                 .message(message)
                 .type(type)
                 .build();
-
-        createAndSendNotification(notification);
     }
 
     /**
      * 사용자의 모든 알림 조회 (페이징)
      */
     public List<NotificationDto> getUserNotifications(Long userId, int page, int size) {
-        String key = USER_NOTIFICATIONS_KEY + userId;
         long start = (long) page * size;
         long end = start + size - 1;
-
-        Set<Object> notifications = redisTemplate.opsForZSet()
-                .reverseRange(key, start, end);
-
-        return notifications.stream()
-                .map(obj -> {
-                    try {
-                        return objectMapper.convertValue(obj, NotificationDto.class);
-                    } catch (Exception e) {
-                        log.error("알림 변환 실패: {}", e.getMessage());
-                        return null;
-                    }
-                })
-                .filter(notification -> notification != null)
-                .collect(Collectors.toList());
+        return notificationRedisRepository.findPage(userId, start, end);
     }
 
     /**
      * 읽지 않은 알림 수 조회
      */
     public long getUnreadCount(Long userId) {
-        String key = UNREAD_COUNT_KEY + userId;
-        Object count = redisTemplate.opsForValue().get(key);
-        return count != null ? Long.parseLong(count.toString()) : 0;
+        return notificationRedisRepository.unreadCount(userId);
     }
 
     /**
-     * 알림 읽음 처리
+     * 알림 읽음 처리 (id로 바로 찾아 읽지 않은 수와 함께 원자적으로 갱신)
      */
     public void markAsRead(Long userId, String notificationId) {
-        String key = USER_NOTIFICATIONS_KEY + userId;
-
-        // 알림 조회
-        Set<ZSetOperations.TypedTuple<Object>> notifications =
-                redisTemplate.opsForZSet().rangeWithScores(key, 0, -1);
-
-        for (ZSetOperations.TypedTuple<Object> tuple : notifications) {
-            try {
-                NotificationDto notification = objectMapper.convertValue(
-                        tuple.getValue(), NotificationDto.class);
-
-                if (notification.getNotificationId().equals(notificationId) && !notification.isRead()) {
-                    notification.setRead(true);
-
-                    // 업데이트된 알림으로 교체
-                    redisTemplate.opsForZSet().remove(key, tuple.getValue());
-                    redisTemplate.opsForZSet().add(key, notification, tuple.getScore());
-
-                    // 읽지 않은 수 감소
-                    decrementUnreadCount(userId);
-                    break;
-                }
-            } catch (Exception e) {
-                log.error("알림 읽음 처리 실패: {}", e.getMessage());
-            }
+        if (!notificationRedisRepository.markRead(userId, notificationId)) {
+            log.debug("이미 읽었거나 없는 알림: userId={}, notificationId={}", userId, notificationId);
         }
     }
 
     /**
-     * 모든 알림 읽음 처리
+     * 모든 알림 읽음 처리 (읽음 기준 시각만 옮기므로 알림 수와 관계없이 한 번에 처리)
      */
     public void markAllAsRead(Long userId) {
-        String key = USER_NOTIFICATIONS_KEY + userId;
-        Set<ZSetOperations.TypedTuple<Object>> notifications =
-                redisTemplate.opsForZSet().rangeWithScores(key, 0, -1);
-
-        for (ZSetOperations.TypedTuple<Object> tuple : notifications) {
-            try {
-                NotificationDto notification = objectMapper.convertValue(
-                        tuple.getValue(), NotificationDto.class);
-
-                if (!notification.isRead()) {
-                    notification.setRead(true);
-                    redisTemplate.opsForZSet().remove(key, tuple.getValue());
-                    redisTemplate.opsForZSet().add(key, notification, tuple.getScore());
-                }
-            } catch (Exception e) {
-                log.error("알림 일괄 읽음 처리 실패: {}", e.getMessage());
-            }
-        }
-
-        // 읽지 않은 수 초기화
-        redisTemplate.opsForValue().set(UNREAD_COUNT_KEY + userId, 0);
+        notificationRedisRepository.markAllRead(userId);
     }
 
     /**
@@ -226,6 +252,36 @@ public class NotificationService {
         return redisTemplate.hasKey(key);
     }
 
+    /**
+     * 여러 사용자의 온라인 상태를 MGET 한 번으로 확인한다
+     */
+    public Set<Long> getOnlineUsers(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Long> ids = List.copyOf(userIds);
+        List<Object> values = redisTemplate.opsForValue().multiGet(
+                ids.stream().map(id -> USER_ONLINE_KEY + id).collect(Collectors.toList()));
+
+        Set<Long> online = new HashSet<>();
+        for (int i = 0; values != null && i < ids.size(); i++) {
+            if (values.get(i) != null) {
+                online.add(ids.get(i));
+            }
+        }
+        return online;
+    }
+
+    /**
+     * 저장 전 id, 생성 시각, 읽음 여부 초기화
+     */
+    private void prepare(NotificationDto notification, LocalDateTime createdAt) {
+        notification.setNotificationId(UUID.randomUUID().toString());
+        notification.setCreatedAt(createdAt);
+        notification.setRead(false);
+    }
+
     /**
      * 실시간 알림 전송
      */
@@ -245,62 +301,53 @@ public class NotificationService {
     }
 
     /**
-     * 읽지 않은 알림 수 증가
-     */
-    private void incrementUnreadCount(Long userId) {
-        String key = UNREAD_COUNT_KEY + userId;
-        redisTemplate.opsForValue().increment(key);
-        redisTemplate.expire(key, NOTIFICATION_TTL_DAYS, TimeUnit.DAYS);
-    }
-
-    /**
-     * 읽지 않은 알림 수 감소
+     * 알림 삭제
      */
-    private void decrementUnreadCount(Long userId) {
-        String key = UNREAD_COUNT_KEY + userId;
-        Long count = redisTemplate.opsForValue().decrement(key);
-        if (count != null && count < 0) {
-            redisTemplate.opsForValue().set(key, 0);
+    public void deleteNotification(Long userId, String notificationId) {
+        if (!notificationRedisRepository.delete(userId, notificationId)) {
+            log.debug("삭제할 알림 없음: userId={}, notificationId={}", userId, notificationId);
         }
     }
 
     /**
-     * 알림 삭제
+     * 오래된 알림 정리 (스케줄링으로 사용). 정리 색인에서 오래된 알림이 있는 사용자만 batchSize명씩 꺼내 파이프라인으로 정리하고, 배치 사이에
+     * 쉬어 가며 한 번에 최대 maxUsersPerRun명까지만 처리한다. 남은 사용자는 다음 실행에서 이어서 처리한다. 배치 사이에 스레드를 재우므로
+     * 공유 스케줄러 스레드가 아닌 전용 스레드에서 호출해야 한다({@code NotificationScheduler}).
      */
-    public void deleteNotification(Long userId, String notificationId) {
-        String key = USER_NOTIFICATIONS_KEY + userId;
-        Set<Object> notifications = redisTemplate.opsForZSet().range(key, 0, -1);
+    public void cleanupOldNotifications() {
+        long cutoffMillis = LocalDateTime.now().minus(NotificationRedisRepository.NOTIFICATION_TTL)
+                .toInstant(ZoneOffset.UTC).toEpochMilli();
+
+        int users = 0;
+        long removed = 0;
+        while (users < cleanupMaxUsersPerRun) {
+            List<Long> userIds = notificationRedisRepository.findUsersWithNotificationsOlderThan(
+                    cutoffMillis, Math.min(cleanupBatchSize, cleanupMaxUsersPerRun - users));
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            removed += notificationRedisRepository.trimOlderThan(userIds, cutoffMillis);
+            users += userIds.size();
 
-        for (Object obj : notifications) {
             try {
-                NotificationDto notification = objectMapper.convertValue(obj, NotificationDto.class);
-                if (notification.getNotificationId().equals(notificationId)) {
-                    redisTemplate.opsForZSet().remove(key, obj);
-                    if (!notification.isRead()) {
-                        decrementUnreadCount(userId);
-                    }
-                    break;
-                }
-            } catch (Exception e) {
-                log.error("알림 삭제 실패: {}", e.getMessage());
+                Thread.sleep(cleanupBatchPauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
             }
         }
+
+        log.info("오래된 알림 정리 완료: 사용자 {}명, {}건", users, removed);
     }
 
     /**
-     * 오래된 알림 정리 (스케줄링으로 사용)
+     * 이전 방식(JSON ZSET)으로 저장된 알림을 새 구조로 옮긴다
      */
-    public void cleanupOldNotifications() {
-        // 7일 이전 알림들을 정리하는 로직
-        // 실제 운영에서는 스케줄러로 주기적 실행
-        long cutoffTime = LocalDateTime.now().minusDays(NOTIFICATION_TTL_DAYS)
-                .toEpochSecond(ZoneOffset.UTC);
-
-        Set<String> userKeys = redisTemplate.keys(USER_NOTIFICATIONS_KEY + "*");
-        for (String key : userKeys) {
-            redisTemplate.opsForZSet().removeRangeByScore(key, 0, cutoffTime);
+    public void migrateLegacyNotifications() {
+        int migrated = notificationRedisRepository.migrateLegacy();
+        if (migrated > 0) {
+            log.info("이전 방식 알림 이전 완료: {}명", migrated);
         }
-
-        log.info("오래된 알림 정리 완료");
     }
 }
\ No newline at end of file
@@ -0,0 +1,193 @@
+package com.example.techbridge.global.common;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 64비트 시간순 id 생성기. [부호 1][EPOCH 이후 ms 41][노드 10][시퀀스 12] 구조로, 한 노드에서 ms당 4096개까지 만든다.
+ * <p>
+ * 마지막으로 발급한 (시각, 시퀀스)를 long 하나에 담아 CAS로 갱신하므로 락과 객체 할당이 없다. 시계가 뒤로 가거나 한 ms의 시퀀스를 다 쓰면
+ * 이전 값 + 1을 사용해(다음 ms를 미리 빌려 씀) 노드 안에서는 항상 증가한다. 노드 id는 {@code id-generator.node-id}로 지정하고, 지정하지
+ * 않으면 기동 시 Redis에서 임대한다.
+ * <p>
+ * 발급한 id는 2^53을 넘으므로 JavaScript Number로는 정확히 표현되지 않는다. 이 id를 담는 DTO 필드는
+ * {@code @JsonSerialize(using = ToStringSerializer.class)}로 JSON 문자열로 내보낸다.
+ * <p>
+ * 임대는 {@code id-generator:node:{n}} 키를 SET NX PX로 잡고 주기적으로 연장한다. 비어 있는 번호가 없으면 기동에 실패하고, 임대를 연장하지
+ * 못한 채 만료 시각이 지나면 다른 노드가 같은 번호를 가져갈 수 있으므로 다시 연장할 때까지 id를 발급하지 않는다.
+ */
+@Slf4j
+@Component
+public class SnowflakeIdGenerator {
+
+    // 2025-01-01T00:00:00Z
+    static final long EPOCH = 1735689600000L;
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // 임대 시작 번호를 노드마다 흩어 두기 위한 카운터
+    private static final String NODE_COUNTER_KEY = "id-generator:node";
+    private static final String NODE_LEASE_PREFIX = "id-generator:node:";
+
+    // KEYS: 임대 키 / ARGV: 소유자, TTL(ms). 만료되어 비어 있으면 다시 잡는다
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+        local owner = redis.call('GET', KEYS[1])
+        if not owner then
+          redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+          return 1
+        end
+        if owner == ARGV[1] then
+          redis.call('PEXPIRE', KEYS[1], ARGV[2])
+          return 1
+        end
+        return 0
+        """, Long.class);
+
+    // KEYS: 임대 키 / ARGV: 소유자. 자신이 잡고 있을 때만 지운다
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+          return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    private final long nodeBits;
+    private final LongSupplier clock;
+    // (EPOCH 이후 ms << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong last = new AtomicLong();
+
+    // 임대한 경우에만 사용한다. node-id를 직접 지정하면 leaseKey는 null
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String leaseKey;
+    private final String leaseOwner = UUID.randomUUID().toString();
+    private final Duration leaseTtl;
+    private volatile long leaseValidUntil = Long.MAX_VALUE;
+
+    @Autowired
+    public SnowflakeIdGenerator(RedisTemplate<String, String> redisTemplate,
+        @Value("${id-generator.node-id:-1}") long nodeId,
+        @Value("${id-generator.lease-ttl:60s}") Duration leaseTtl) {
+        this.clock = System::currentTimeMillis;
+        this.redisTemplate = redisTemplate;
+        this.leaseTtl = leaseTtl;
+        long assigned = nodeId;
+        if (nodeId < 0) {
+            long leaseStart = clock.getAsLong();
+            assigned = leaseNodeId(redisTemplate);
+            leaseValidUntil = leaseStart + leaseTtl.toMillis();
+            this.leaseKey = NODE_LEASE_PREFIX + assigned;
+        } else {
+            this.leaseKey = null;
+        }
+        this.nodeBits = validate(assigned) << SEQUENCE_BITS;
+        log.info("id 생성기 노드 id: {}", assigned);
+    }
+
+    SnowflakeIdGenerator(long nodeId, LongSupplier clock) {
+        this.nodeBits = validate(nodeId) << SEQUENCE_BITS;
+        this.clock = clock;
+        this.redisTemplate = null;
+        this.leaseKey = null;
+        this.leaseTtl = null;
+        log.info("id 생성기 노드 id: {}", nodeId);
+    }
+
+    public long nextId() {
+        long millis = clock.getAsLong();
+        if (millis >= leaseValidUntil) {
+            throw new IllegalStateException("id 생성기 노드 id 임대가 만료되었습니다: " + leaseKey);
+        }
+
+        long now = (millis - EPOCH) << SEQUENCE_BITS;
+        long prev;
+        long next;
+        do {
+            prev = last.get();
+            next = Math.max(now, prev + 1);
+        } while (!last.compareAndSet(prev, next));
+
+        long timestamp = next >>> SEQUENCE_BITS;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+    }
+
+    /**
+     * id에 들어 있는 발급 시각. 같은 시각 이전의 id를 찾는 커서로 쓸 수 있다.
+     */
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH);
+    }
+
+    /**
+     * 임대를 연장한다. 연장에 실패해도 만료 시각 전까지는 계속 발급하고, 다른 노드가 번호를 가져갔으면 발급을 멈춘다.
+     */
+    @Scheduled(fixedDelayString = "${id-generator.lease-renew-interval:20000}",
+        initialDelayString = "${id-generator.lease-renew-interval:20000}")
+    public void renewLease() {
+        if (leaseKey == null) {
+            return;
+        }
+
+        long renewStart = clock.getAsLong();
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(leaseKey), leaseOwner,
+                String.valueOf(leaseTtl.toMillis()));
+            if (renewed != null && renewed == 1L) {
+                leaseValidUntil = renewStart + leaseTtl.toMillis();
+                return;
+            }
+            leaseValidUntil = 0;
+            log.error("id 생성기 노드 id를 다른 노드가 가져갔습니다. id 발급을 중단합니다: {}", leaseKey);
+        } catch (DataAccessException e) {
+            log.warn("id 생성기 노드 id 임대 연장 실패: key={}, error={}", leaseKey, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        if (leaseKey == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey), leaseOwner);
+        } catch (DataAccessException e) {
+            log.warn("id 생성기 노드 id 반납 실패: key={}, error={}", leaseKey, e.getMessage());
+        }
+    }
+
+    // 카운터로 정한 번호부터 차례로 비어 있는 번호를 찾는다. 모두 사용 중이면 같은 번호를 나눠 쓰지 않도록 기동에 실패한다
+    private long leaseNodeId(RedisTemplate<String, String> redisTemplate) {
+        Long counter = redisTemplate.opsForValue().increment(NODE_COUNTER_KEY);
+        long start = (counter != null) ? counter : 0L;
+        for (long i = 0; i <= MAX_NODE_ID; i++) {
+            long candidate = (start + i) & MAX_NODE_ID;
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(NODE_LEASE_PREFIX + candidate, leaseOwner, leaseTtl))) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("비어 있는 id 생성기 노드 id가 없습니다.");
+    }
+
+    private static long validate(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node id는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        return nodeId;
+    }
+}
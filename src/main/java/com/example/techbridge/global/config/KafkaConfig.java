@@ -1,8 +1,13 @@
 package com.example.techbridge.global.config;
 
 import com.example.techbridge.domain.chat.dto.ChatMessageDto;
+import com.example.techbridge.domain.chat.service.ChatService;
+import com.example.techbridge.domain.chat.service.RecentMessageCache;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,10 +15,18 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.ContainerProperties.AckMode;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.ExponentialBackOff;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -21,15 +34,54 @@ import java.util.Map;
 @EnableKafka
 public class KafkaConfig {
 
+    private static final String DLT_SUFFIX = ".DLT";
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${chat.kafka.max-poll-records:500}")
+    private int maxPollRecords;
+
+    @Value("${chat.kafka.partitions:12}")
+    private int partitions;
+
+    @Value("${chat.kafka.replicas:1}")
+    private short replicas;
+
+    // 파티션 수 이하로만 의미가 있다. 인스턴스를 늘리면 파티션이 인스턴스 간에 다시 분배된다
+    @Value("${chat.kafka.concurrency:3}")
+    private int concurrency;
+
+    // 저장 실패 시 재시도 간격을 1초부터 두 배씩 최대 30초까지 늘리며, 이 시간이 지나면 배치를 DLT로 옮긴다
+    @Value("${chat.kafka.retry-max-elapsed:10m}")
+    private Duration retryMaxElapsed;
+
+    @Bean
+    public NewTopic chatTopic() {
+        return TopicBuilder.name(ChatService.CHAT_TOPIC)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+
+    // 재시도를 모두 실패한 레코드. DeadLetterPublishingRecoverer는 원래 파티션 번호로 보내므로 파티션 수를 맞춘다
+    @Bean
+    public NewTopic chatDeadLetterTopic() {
+        return TopicBuilder.name(ChatService.CHAT_TOPIC + DLT_SUFFIX)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+
     @Bean
     public ProducerFactory<String, ChatMessageDto> producerFactory() {
         Map<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        // 재시도 중에도 같은 파티션 안의 순서가 뒤바뀌지 않도록 한다
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
         return new DefaultKafkaProducerFactory<>(config);
     }
     @Bean
@@ -44,14 +96,46 @@ public class KafkaConfig {
         config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
         config.put(JsonDeserializer.TRUSTED_PACKAGES, "com.example.techbridge.domain.chat.dto");
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
         return new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(),
                 new JsonDeserializer<>(ChatMessageDto.class, false));
     }
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, ChatMessageDto> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, ChatMessageDto> kafkaListenerContainerFactory(
+            RecentMessageCache recentMessageCache, KafkaTemplate<String, ChatMessageDto> kafkaTemplate) {
         ConcurrentKafkaListenerContainerFactory<String, ChatMessageDto> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        // poll 단위로 리스너를 호출하고, 리스너가 정상 반환한 뒤에만 배치 오프셋을 커밋한다
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(AckMode.BATCH);
+        factory.setCommonErrorHandler(chatErrorHandler(kafkaTemplate));
+        // 파티션을 잃은 노드의 최근 메시지 버퍼는 더 이상 갱신되지 않으므로 버린다
+        factory.getContainerProperties().setConsumerRebalanceListener(new ConsumerAwareRebalanceListener() {
+            @Override
+            public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer,
+                    Collection<TopicPartition> partitions) {
+                recentMessageCache.evictPartitions(partitions.stream()
+                        .map(TopicPartition::partition)
+                        .toList());
+            }
+        });
         return factory;
     }
-}
\ No newline at end of file
+
+    /**
+     * 배치 저장이 실패하면 오프셋을 커밋하지 않고 같은 배치를 지수 백오프로 다시 처리한다. 재시도 시간을 넘기면 배치의 레코드를 DLT로 보낸 뒤에만
+     * 커밋하며, DLT 전송이 실패하면 커밋하지 않고 다시 시도한다. 저장되지 않은 배치가 조용히 사라지는 경우가 없다.
+     */
+    private DefaultErrorHandler chatErrorHandler(KafkaTemplate<String, ChatMessageDto> kafkaTemplate) {
+        ExponentialBackOff backOff = new ExponentialBackOff(1000L, 2.0);
+        backOff.setMaxInterval(30_000L);
+        backOff.setMaxElapsedTime(retryMaxElapsed.toMillis());
+
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate);
+        recoverer.setFailIfSendResultIsError(true);
+        return new DefaultErrorHandler(recoverer, backOff);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.techbridge.global.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드가 synchronized 블록 안에서 블로킹되어 캐리어 스레드에 고정(pinning)되는 구간을 JFR 이벤트로 수집해 로그로 남긴다.
+ * Lettuce, Kafka 클라이언트 내부 락에서 발생한 경우를 구분해 표시한다.
+ */
+@Slf4j
+@Component
+@Profile("vthreads")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final List<String> WATCHED_PACKAGES = List.of(
+        "io.lettuce.", "org.apache.kafka.", "com.mongodb.", "com.mysql.", "com.zaxxer.hikari.");
+    private static final int MAX_FRAMES = 12;
+
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+        @Value("${diagnostics.virtual-thread-pinning.threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    private void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::report);
+        stream.startAsync();
+        log.info("가상 스레드 pinning 모니터 시작: threshold={}", threshold);
+    }
+
+    @PreDestroy
+    private void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void report(RecordedEvent event) {
+        List<RecordedFrame> frames = (event.getStackTrace() != null)
+            ? event.getStackTrace().getFrames()
+            : List.of();
+
+        String source = frames.stream()
+            .map(frame -> frame.getMethod().getType().getName())
+            .filter(type -> WATCHED_PACKAGES.stream().anyMatch(type::startsWith))
+            .findFirst()
+            .orElse("application");
+
+        String stack = frames.stream()
+            .limit(MAX_FRAMES)
+            .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber())
+            .collect(Collectors.joining("\n\tat "));
+
+        log.warn("가상 스레드 pinning {}ms (source={}, thread={})\n\tat {}",
+            event.getDuration().toMillis(), source,
+            (event.getThread() != null) ? event.getThread().getJavaName() : "?", stack);
+    }
+}
@@ -28,11 +28,16 @@ public enum ErrorCode {
     INVALID_TUTORING_STATUS("T007", "취소할 수 없는 상태입니다.", HttpStatus.BAD_REQUEST),
     INVALID_TUTORING_REQUEST_TYPE("T008", "지원하지 않는 조회 타입입니다.", HttpStatus.BAD_REQUEST),
 
+    // ====== CHAT ======
+    INVALID_MESSAGE_CURSOR("CH001", "유효하지 않은 메시지 커서입니다.", HttpStatus.BAD_REQUEST),
+
     // ====== AUTH ======
     INVALID_TOKEN("A001", "유효하지 않은 토큰입니다.", HttpStatus.BAD_REQUEST),
     REFRESH_TOKEN_NOT_FOUND("A002", "Refresh Token이 존재하지 않습니다.", HttpStatus.NOT_FOUND),
     UNAUTHORIZED("A003", "접근 권한이 필요합니다.", HttpStatus.FORBIDDEN),
     UNAUTHENTICATED("A004", "로그인이 필요합니다.", HttpStatus.UNAUTHORIZED),
+    PASSWORD_HASHING_BUSY("A005", "요청이 많아 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    TOO_MANY_LOGIN_ATTEMPTS("A006", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
 
     // ====== COMMON ======
     BAD_REQUEST("C400", "잘못된 요청입니다.", HttpStatus.BAD_REQUEST),
@@ -5,17 +5,13 @@ import com.example.techbridge.auth.handler.CustomAuthenticationEntryPoint;
 import com.example.techbridge.auth.jwt.JwtAuthenticationFilter;
 import com.example.techbridge.auth.jwt.JwtTokenProvider;
 import com.example.techbridge.auth.service.TokenBlacklistService;
-import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
-import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer.FrameOptionsConfig;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -27,6 +23,9 @@ public class LocalSecurityConfig {
     private final TokenBlacklistService blacklistService;
     private final CustomAccessDeniedHandler accessDeniedHandler;
     private final CustomAuthenticationEntryPoint authenticationEntryPoint;
+    private final PermitAllRoutes permitAllRoutes = PermitAllRoutes.common()
+        .add(null, "/h2-console/**")
+        .build();
 
 
     @Autowired
@@ -42,10 +41,7 @@ public class LocalSecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtFilter() {
-        List<String> whiteList = List.of(
-            "/auth/login", "/auth/refresh"
-        );
-        return new JwtAuthenticationFilter(jwtTokenProvider, blacklistService, whiteList);
+        return new JwtAuthenticationFilter(jwtTokenProvider, blacklistService, permitAllRoutes);
     }
 
     @Bean
@@ -56,10 +52,7 @@ public class LocalSecurityConfig {
                 .frameOptions(FrameOptionsConfig::sameOrigin)
             )
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/h2-console/**").permitAll()
-                .requestMatchers(HttpMethod.POST, "/api/members").permitAll()
-                .requestMatchers(HttpMethod.GET, "/api/members/profile-image-url").permitAll()
-                .requestMatchers("/auth/login", "/auth/refresh").permitAll()
+                .requestMatchers(permitAllRoutes).permitAll()
                 .anyRequest().authenticated()
             )
             .addFilterBefore(jwtFilter(), UsernamePasswordAuthenticationFilter.class)
@@ -70,9 +63,4 @@ public class LocalSecurityConfig {
                 session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
         return http.build();
     }
-
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
 }
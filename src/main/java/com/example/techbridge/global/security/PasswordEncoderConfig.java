@@ -0,0 +1,57 @@
+package com.example.techbridge.global.security;
+
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 저장 형식은 {@code {bcrypt}$2a$...}처럼 id 접두사를 붙인다. 접두사가 없는 기존 해시는 기본 bcrypt로 검증하고, 로그인 성공 시
+ * {@link PasswordEncoder#upgradeEncoding(String)}으로 현재 형식/강도로 다시 저장한다.
+ */
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final String ENCODING_ID = "bcrypt";
+    private static final int MIN_STRENGTH = 10;
+    private static final int MAX_STRENGTH = 16;
+
+    @Bean
+    public PasswordEncoder passwordEncoder(
+        @Value("${password.hashing.strength:-1}") int strength,
+        @Value("${password.hashing.target-millis:250}") long targetMillis) {
+        int resolved = (strength > 0) ? strength : calibrate(targetMillis);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(ENCODING_ID,
+            Map.of(ENCODING_ID, new BCryptPasswordEncoder(resolved)));
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
+    }
+
+    /**
+     * 기본 강도에서 한 번 측정한 시간으로 목표 지연에 맞는 강도를 고른다. 강도가 1 오를 때마다 비용은 두 배가 된다.
+     */
+    private int calibrate(long targetMillis) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(MIN_STRENGTH);
+        probe.encode("calibration");
+
+        long start = System.nanoTime();
+        probe.encode("calibration");
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        int strength = MIN_STRENGTH;
+        while (strength < MAX_STRENGTH && elapsedMillis * 2 <= targetMillis) {
+            elapsedMillis *= 2;
+            strength++;
+        }
+
+        log.info("bcrypt 강도 보정: strength={}, 예상 {}ms (목표 {}ms)", strength, elapsedMillis,
+            targetMillis);
+        return strength;
+    }
+}
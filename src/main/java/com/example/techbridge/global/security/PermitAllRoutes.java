@@ -0,0 +1,76 @@
+package com.example.techbridge.global.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 인증 없이 허용하는 경로 목록. 패턴은 생성 시 한 번만 컴파일하고, SecurityFilterChain의 permitAll과 JWT 필터의 건너뛰기 판단이 같은
+ * 인스턴스를 사용한다.
+ */
+public final class PermitAllRoutes implements RequestMatcher {
+
+    private final List<Route> routes;
+
+    private PermitAllRoutes(List<Route> routes) {
+        this.routes = List.copyOf(routes);
+    }
+
+    /**
+     * 모든 프로필에 공통으로 열려 있는 경로.
+     */
+    public static Builder common() {
+        return new Builder()
+            .add(HttpMethod.POST, "/api/members")
+            .add(HttpMethod.GET, "/api/members/profile-image-url")
+            .add(null, "/auth/login")
+            .add(null, "/auth/refresh")
+            .add(HttpMethod.GET, "/auth/jwks");
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        PathContainer path = PathContainer.parsePath(
+            contextPath.isEmpty() ? uri : uri.substring(contextPath.length()));
+        String method = request.getMethod();
+
+        for (Route route : routes) {
+            if ((route.method == null || route.method.matches(method))
+                && route.pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Route(HttpMethod method, PathPattern pattern) {
+
+    }
+
+    public static final class Builder {
+
+        private final List<Route> routes = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * @param method null이면 모든 메서드를 허용한다
+         */
+        public Builder add(HttpMethod method, String pattern) {
+            routes.add(new Route(method, PathPatternParser.defaultInstance.parse(pattern)));
+            return this;
+        }
+
+        public PermitAllRoutes build() {
+            return new PermitAllRoutes(routes);
+        }
+    }
+}
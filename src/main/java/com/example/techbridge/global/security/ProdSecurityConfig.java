@@ -5,18 +5,14 @@ import com.example.techbridge.auth.handler.CustomAuthenticationEntryPoint;
 import com.example.techbridge.auth.jwt.JwtAuthenticationFilter;
 import com.example.techbridge.auth.jwt.JwtTokenProvider;
 import com.example.techbridge.auth.service.TokenBlacklistService;
-import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
-import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer.FrameOptionsConfig;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -28,6 +24,8 @@ public class ProdSecurityConfig {
     private final TokenBlacklistService blacklistService;
     private final CustomAccessDeniedHandler accessDeniedHandler;
     private final CustomAuthenticationEntryPoint authenticationEntryPoint;
+    private final PermitAllRoutes permitAllRoutes = PermitAllRoutes.common()
+        .build();
 
 
     @Autowired
@@ -43,10 +41,7 @@ public class ProdSecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtFilter() {
-        List<String> whiteList = List.of(
-            "/auth/login", "/auth/refresh"
-        );
-        return new JwtAuthenticationFilter(jwtTokenProvider, blacklistService, whiteList);
+        return new JwtAuthenticationFilter(jwtTokenProvider, blacklistService, permitAllRoutes);
     }
 
     @Bean
@@ -55,9 +50,7 @@ public class ProdSecurityConfig {
             .csrf(AbstractHttpConfigurer::disable)
             .headers(h -> h.frameOptions(FrameOptionsConfig::deny))
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers(HttpMethod.POST, "/api/members").permitAll()
-                .requestMatchers(HttpMethod.GET, "/api/members/profile-image-url").permitAll()
-                .requestMatchers("/auth/login", "/auth/refresh").permitAll()
+                .requestMatchers(permitAllRoutes).permitAll()
                 .anyRequest().authenticated()
             )
             .addFilterBefore(jwtFilter(), UsernamePasswordAuthenticationFilter.class)
@@ -69,9 +62,4 @@ public class ProdSecurityConfig {
 
         return http.build();
     }
-
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
 }
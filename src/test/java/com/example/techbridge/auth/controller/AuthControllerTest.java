@@ -1,6 +1,7 @@
 package com.example.techbridge.auth.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -8,16 +9,16 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.example.techbridge.auth.dto.LoginRequest;
 import com.example.techbridge.auth.dto.RefreshRequest;
 import com.example.techbridge.auth.jwt.JwtTokenProvider;
-import com.example.techbridge.auth.repository.RefreshTokenRepository;
+import com.example.techbridge.auth.jwt.VerifiedToken;
 import com.example.techbridge.domain.member.entity.Member;
 import com.example.techbridge.domain.member.repository.MemberRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -44,7 +45,7 @@ class AuthControllerTest {
     private JwtTokenProvider jwtTokenProvider;
 
     @Autowired
-    private RefreshTokenRepository refreshTokenRepository;
+    private StringRedisTemplate stringRedisTemplate;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
@@ -120,7 +121,48 @@ class AuthControllerTest {
                 .content(objectMapper.writeValueAsString(refreshRequest)))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.data.accessToken").exists())
-            .andExpect(jsonPath("$.data.refreshToken").value(refreshToken));
+            .andExpect(jsonPath("$.data.refreshToken").value(not(refreshToken)));
+    }
+
+    @Test
+    void reused_refreshToken_revoke_family() throws Exception {
+        LoginRequest request = new LoginRequest("tester", "1234");
+
+        String loginResponse = mockMvc.perform(post("/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        String refreshToken = objectMapper.readTree(loginResponse)
+            .path("data")
+            .path("refreshToken")
+            .asText();
+
+        String refreshResponse = mockMvc.perform(post("/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshRequest(refreshToken))))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        String rotatedToken = objectMapper.readTree(refreshResponse)
+            .path("data")
+            .path("refreshToken")
+            .asText();
+
+        mockMvc.perform(post("/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshRequest(refreshToken))))
+            .andExpect(status().is4xxClientError());
+
+        mockMvc.perform(post("/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshRequest(rotatedToken))))
+            .andExpect(status().isNotFound());
     }
 
     @Test
@@ -146,6 +188,9 @@ class AuthControllerTest {
             .path("refreshToken")
             .asText();
 
+        VerifiedToken verified = jwtTokenProvider.verify(refreshToken).orElseThrow();
+        assertThat(familyExists(verified)).isTrue();
+
         RefreshRequest logoutRequest = new RefreshRequest(refreshToken);
 
         mockMvc.perform(post("/auth/logout")
@@ -155,9 +200,11 @@ class AuthControllerTest {
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.code").value("SUCCESS"));
 
-        Long memberId = jwtTokenProvider.extractMemberId(refreshToken);
-        Optional<String> deletedToken = refreshTokenRepository.findByMemberId(memberId);
+        assertThat(familyExists(verified)).isFalse();
+    }
 
-        assertThat(deletedToken).isEmpty();
+    private boolean familyExists(VerifiedToken verified) {
+        return stringRedisTemplate.opsForHash()
+            .hasKey("refresh:" + verified.getMemberId(), verified.getFamilyId());
     }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.example.techbridge.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JwtKeyRingTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("이전 공개키 파일을 지우면 최근 수정 시각이 그대로여도 다시 읽어 더 이상 검증하지 않는다")
+    void reloadIfChanged_removedKey() throws Exception {
+        // given
+        writeKeyPair("old");
+        writeKeyPair("new");
+        Files.writeString(directory.resolve("active"), "new");
+        JwtKeyRing keyRing = new JwtKeyRing(directory, "EdDSA");
+        assertThat(kids(keyRing)).containsExactlyInAnyOrder("old", "new");
+
+        // when
+        Files.delete(directory.resolve("old.pub.pem"));
+        keyRing.reloadIfChanged();
+
+        // then
+        assertThat(kids(keyRing)).containsExactly("new");
+    }
+
+    private void writeKeyPair(String kid) throws IOException, NoSuchAlgorithmException {
+        KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        Files.writeString(directory.resolve(kid + ".pub.pem"),
+            pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+        Files.writeString(directory.resolve(kid + ".pem"),
+            pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+            + Base64.getMimeEncoder().encodeToString(der)
+            + "\n-----END " + type + "-----\n";
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> kids(JwtKeyRing keyRing) {
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) keyRing.toJwkSet().get("keys");
+        return keys.stream().map(key -> (String) key.get("kid")).toList();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.techbridge.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.techbridge.domain.member.entity.Member.Role;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+    @Test
+    @DisplayName("같은 토큰은 캐시에서 조회된다")
+    void get_hit() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 10);
+        VerifiedToken verified = verifiedToken(Instant.now().plusSeconds(60));
+        cache.put("token-a", verified);
+
+        // when, then
+        assertThat(cache.get("token-a")).isSameAs(verified);
+        assertThat(cache.get("token-b")).isNull();
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시에서 조회되지 않는다")
+    void get_expired_miss() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 10);
+        cache.put("token-a", verifiedToken(Instant.now().minusSeconds(1)));
+
+        // when, then
+        assertThat(cache.get("token-a")).isNull();
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 저장하지 않는다")
+    void disabled_noop() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(false, 10);
+        cache.put("token-a", verifiedToken(Instant.now().plusSeconds(60)));
+
+        // when, then
+        assertThat(cache.get("token-a")).isNull();
+    }
+
+    private VerifiedToken verifiedToken(Instant expiration) {
+        return new VerifiedToken(1L, Role.STUDENT, "jti", expiration, 0L, null);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.techbridge.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BlacklistBloomFilterTest {
+
+    private static final long WINDOW = 60_000;
+
+    @Test
+    @DisplayName("추가한 jti는 만료 전까지 항상 포함된다")
+    void mightContain_added() {
+        // given
+        BlacklistBloomFilter filter = new BlacklistBloomFilter(WINDOW, 1_000, 0.01);
+        long now = 1_000_000L;
+        String jti = UUID.randomUUID().toString();
+
+        // when
+        filter.add(jti, now + 30 * WINDOW, now);
+
+        // then
+        assertThat(filter.mightContain(jti, now)).isTrue();
+        assertThat(filter.mightContain(jti, now + 29 * WINDOW)).isTrue();
+    }
+
+    @Test
+    @DisplayName("거짓 양성 비율이 설정값 근처로 유지된다")
+    void falsePositiveRate() {
+        // given
+        BlacklistBloomFilter filter = new BlacklistBloomFilter(WINDOW, 1_000, 0.01);
+        long now = 1_000_000L;
+        for (int i = 0; i < 1_000; i++) {
+            filter.add(UUID.randomUUID().toString(), now + WINDOW, now);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString(), now)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("만료 구간이 지나면 비트 배열이 제거된다")
+    void expire_dropsWindow() {
+        // given
+        BlacklistBloomFilter filter = new BlacklistBloomFilter(WINDOW, 1_000, 0.01);
+        long now = 1_000_000L;
+        String jti = UUID.randomUUID().toString();
+        filter.add(jti, now + WINDOW, now);
+
+        // when
+        long later = now + 3 * WINDOW;
+        filter.expire(later);
+
+        // then
+        assertThat(filter.windowCount()).isZero();
+        assertThat(filter.mightContain(jti, later)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 추가하지 않는다")
+    void add_expired_ignored() {
+        // given
+        BlacklistBloomFilter filter = new BlacklistBloomFilter(WINDOW, 1_000, 0.01);
+        long now = 1_000_000L;
+
+        // when
+        filter.add("jti", now - 1, now);
+
+        // then
+        assertThat(filter.windowCount()).isZero();
+    }
+}
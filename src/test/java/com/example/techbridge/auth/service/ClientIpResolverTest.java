@@ -0,0 +1,72 @@
+package com.example.techbridge.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class ClientIpResolverTest {
+
+    private final ClientIpResolver resolver = new ClientIpResolver(List.of("10.0.0.0/8"));
+
+    @Test
+    @DisplayName("신뢰하는 프록시를 거친 요청은 X-Forwarded-For에서 신뢰하지 않는 마지막 주소를 클라이언트로 본다")
+    void resolve_trustedProxy() {
+        // given
+        MockHttpServletRequest request = request("10.0.0.5", "1.2.3.4, 203.0.113.7, 10.0.0.9");
+
+        // when, then
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("직접 연결한 클라이언트가 보낸 X-Forwarded-For는 무시한다")
+    void resolve_untrustedPeer() {
+        // given
+        MockHttpServletRequest request = request("203.0.113.7", "1.2.3.4");
+
+        // when, then
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("헤더가 없거나 IP가 아닌 값을 만나면 마지막으로 확인한 프록시 주소를 쓴다")
+    void resolve_missingOrInvalidHeader() {
+        // when, then
+        assertThat(resolver.resolve(request("10.0.0.5", null))).isEqualTo("10.0.0.5");
+        assertThat(resolver.resolve(request("10.0.0.5", "unknown"))).isEqualTo("10.0.0.5");
+        assertThat(resolver.resolve(request("10.0.0.5", "1.2.3.4, unknown, 10.0.0.9"))).isEqualTo("10.0.0.9");
+    }
+
+    @Test
+    @DisplayName("16진수 글자로만 된 호스트 이름은 IP로 보지 않고 마지막으로 확인한 주소를 쓴다")
+    void resolve_hexHostname() {
+        // when, then
+        assertThat(resolver.resolve(request("10.0.0.5", "cafe"))).isEqualTo("10.0.0.5");
+        assertThat(resolver.resolve(request("10.0.0.5", "1.2.3.4, bad.face, 10.0.0.9"))).isEqualTo("10.0.0.9");
+    }
+
+    @Test
+    @DisplayName("IPv4는 점 네 부분과 0~255 범위, IPv6는 ':'가 있는 올바른 리터럴만 IP로 본다")
+    void isIpLiteral() {
+        assertThat(ClientIpResolver.isIpLiteral("203.0.113.7")).isTrue();
+        assertThat(ClientIpResolver.isIpLiteral("2001:db8::1")).isTrue();
+        assertThat(ClientIpResolver.isIpLiteral("::1")).isTrue();
+        assertThat(ClientIpResolver.isIpLiteral("cafe")).isFalse();
+        assertThat(ClientIpResolver.isIpLiteral("bad.face")).isFalse();
+        assertThat(ClientIpResolver.isIpLiteral("1.2.3.256")).isFalse();
+        assertThat(ClientIpResolver.isIpLiteral("1.2.3")).isFalse();
+        assertThat(ClientIpResolver.isIpLiteral("bad::face::1")).isFalse();
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.techbridge.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.techbridge.auth.service.LoginRateLimiter.TokenBucket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LoginRateLimiterTest {
+
+    private static final long WINDOW = 60_000;
+
+    @Test
+    @DisplayName("로컬 버킷은 용량만큼 허용한 뒤 거부한다")
+    void tokenBucket_exhausted() {
+        // given
+        TokenBucket bucket = new TokenBucket(3);
+        long now = System.currentTimeMillis();
+
+        // when, then
+        assertThat(bucket.tryAcquire(now, WINDOW)).isTrue();
+        assertThat(bucket.tryAcquire(now, WINDOW)).isTrue();
+        assertThat(bucket.tryAcquire(now, WINDOW)).isTrue();
+        assertThat(bucket.tryAcquire(now, WINDOW)).isFalse();
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 비율만큼 다시 채워진다")
+    void tokenBucket_refill() {
+        // given
+        TokenBucket bucket = new TokenBucket(3);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 3; i++) {
+            bucket.tryAcquire(now, WINDOW);
+        }
+
+        // when, then
+        assertThat(bucket.tryAcquire(now + WINDOW / 3, WINDOW)).isTrue();
+        assertThat(bucket.tryAcquire(now + WINDOW / 3, WINDOW)).isFalse();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.techbridge.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.techbridge.auth.exception.PasswordHashingBusyException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordHashingServiceTest {
+
+    @Test
+    @DisplayName("풀과 큐가 가득 차면 기다리지 않고 예외를 던진다")
+    void saturated_rejected() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordHashingService service = new PasswordHashingService(
+            new BlockingEncoder(started, release), 1, 1, Duration.ofSeconds(5));
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        callers.submit(() -> service.encode("running"));
+        started.await(1, TimeUnit.SECONDS);
+        callers.submit(() -> service.encode("queued"));
+        Thread.sleep(100);
+
+        // when, then
+        try {
+            assertThatThrownBy(() -> service.encode("rejected"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        } finally {
+            release.countDown();
+            callers.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("대기 시간이 초과되면 예외를 던진다")
+    void timeout() {
+        // given
+        PasswordHashingService service = new PasswordHashingService(
+            new BlockingEncoder(new CountDownLatch(1), new CountDownLatch(1)), 1, 1,
+            Duration.ofMillis(50));
+
+        // when, then
+        assertThatThrownBy(() -> service.encode("slow"))
+            .isInstanceOf(PasswordHashingBusyException.class);
+    }
+
+    @Test
+    @DisplayName("현재 형식이면 재해시하지 않는다")
+    void rehash_notNeeded() {
+        // given
+        CountDownLatch released = new CountDownLatch(0);
+        PasswordHashingService service = new PasswordHashingService(
+            new BlockingEncoder(released, released), 1, 1, Duration.ofSeconds(1));
+
+        // when, then
+        assertThat(service.rehashIfNeeded("raw", "{noop}raw")).isNull();
+        assertThat(service.rehashIfNeeded("raw", "legacy")).isEqualTo("{noop}raw");
+    }
+
+    private record BlockingEncoder(CountDownLatch started, CountDownLatch release) implements
+        PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "{noop}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals(encode(rawPassword));
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            return !encodedPassword.startsWith("{noop}");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.techbridge.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class TokenVersionServiceTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("세대를 올리면 키의 TTL을 없애 만료 후 세대가 0으로 돌아가지 않게 한다")
+    void bump_persistsVersion() {
+        // given
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("tv:1")).thenReturn(3L);
+        TokenVersionService tokenVersionService = new TokenVersionService(redisTemplate,
+            mock(RedisMessageListenerContainer.class), Duration.ofSeconds(60), 100);
+
+        // when
+        long version = tokenVersionService.bump(1L);
+
+        // then
+        assertThat(version).isEqualTo(3L);
+        assertThat(tokenVersionService.currentVersion(1L)).isEqualTo(3L);
+        verify(redisTemplate).persist("tv:1");
+        verify(redisTemplate, never()).expire(anyString(), any(Duration.class));
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.techbridge.domain.chat.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChatMessageDtoTest {
+
+    // 2^53 + 1. JavaScript Number로 읽으면 2^53으로 반올림된다
+    private static final long UNSAFE_ID = (1L << 53) + 1;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("시간순 id는 JSON 문자열로 내보내고 다시 읽어도 값이 그대로다")
+    void ids_serializedAsString() throws Exception {
+        // given
+        ChatMessageDto message = ChatMessageDto.builder()
+            .messageId(UNSAFE_ID)
+            .roomId(UNSAFE_ID)
+            .senderId(7L)
+            .build();
+
+        // when
+        String json = objectMapper.writeValueAsString(message);
+
+        // then
+        JsonNode node = objectMapper.readTree(json);
+        assertThat(node.get("messageId").isTextual()).isTrue();
+        assertThat(node.get("roomId").asText()).isEqualTo(String.valueOf(UNSAFE_ID));
+        assertThat(node.get("senderId").isNumber()).isTrue();
+        assertThat(objectMapper.readValue(json, ChatMessageDto.class)).isEqualTo(message);
+    }
+}
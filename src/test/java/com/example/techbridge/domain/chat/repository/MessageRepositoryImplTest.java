@@ -0,0 +1,114 @@
+package com.example.techbridge.domain.chat.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.techbridge.domain.chat.model.Message;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+class MessageRepositoryImplTest {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private MongoTemplate mongoTemplate;
+    private BulkOperations bulkOperations;
+    private MessageRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        bulkOperations = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkMode.UNORDERED, Message.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        repository = new MessageRepositoryImpl(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("배치 전체를 unordered bulk insert 한 번으로 저장하고 저장 건수를 반환한다")
+    void insertAll_bulkInsert() {
+        // given
+        List<Message> messages = List.of(message("a"), message("b"), message("c"));
+        when(bulkOperations.execute()).thenReturn(result(3));
+
+        // when
+        int inserted = repository.insertAllIgnoringDuplicates(messages);
+
+        // then
+        assertThat(inserted).isEqualTo(3);
+        verify(bulkOperations).insert(messages);
+    }
+
+    @Test
+    @DisplayName("재전달로 이미 저장된 _id만 실패하면 나머지 저장 건수를 반환한다")
+    void insertAll_duplicatesIgnored() {
+        // given
+        when(bulkOperations.execute()).thenThrow(bulkFailure(1, DUPLICATE_KEY, DUPLICATE_KEY));
+
+        // when
+        int inserted = repository.insertAllIgnoringDuplicates(
+            List.of(message("a"), message("b"), message("c")));
+
+        // then
+        assertThat(inserted).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("중복 외의 오류가 섞여 있으면 예외를 던져 배치를 커밋하지 않게 한다")
+    void insertAll_otherErrorRethrown() {
+        // given
+        when(bulkOperations.execute()).thenThrow(bulkFailure(1, DUPLICATE_KEY, 121));
+
+        // when, then
+        assertThatThrownBy(() -> repository.insertAllIgnoringDuplicates(
+            List.of(message("a"), message("b"), message("c"))))
+            .isInstanceOf(BulkOperationException.class);
+    }
+
+    @Test
+    @DisplayName("빈 배치는 Mongo를 호출하지 않는다")
+    void insertAll_empty() {
+        // given
+        MongoTemplate untouched = mock(MongoTemplate.class);
+
+        // when, then
+        assertThat(new MessageRepositoryImpl(untouched).insertAllIgnoringDuplicates(List.of())).isZero();
+        verifyNoInteractions(untouched);
+    }
+
+    private static Message message(String id) {
+        return Message.builder().id(id).roomId(1L).content(id).build();
+    }
+
+    private static BulkWriteResult result(int inserted) {
+        return BulkWriteResult.acknowledged(inserted, 0, 0, 0, List.of(), List.of());
+    }
+
+    private static BulkOperationException bulkFailure(int inserted, int... errorCodes) {
+        List<BulkWriteError> errors = new ArrayList<>();
+        for (int i = 0; i < errorCodes.length; i++) {
+            errors.add(new BulkWriteError(errorCodes[i], "error", new BsonDocument(), i));
+        }
+        MongoBulkWriteException source = new MongoBulkWriteException(result(inserted), errors, null,
+            new ServerAddress(), Set.of());
+        return new BulkOperationException(source.getMessage(), source);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.techbridge.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.techbridge.domain.chat.model.ChatParticipation;
+import com.example.techbridge.domain.chat.repository.ChatParticipationRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class ChatParticipantCacheTest {
+
+    private final ChatParticipationRepository repository = mock(ChatParticipationRepository.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    private final ChatParticipantCache cache = new ChatParticipantCache(repository, redisTemplate,
+        mock(RedisMessageListenerContainer.class), 100, Duration.ofMinutes(1));
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findByRoomId(1L)).thenReturn(List.of(participation(10L), participation(20L)));
+    }
+
+    @Test
+    @DisplayName("처음 조회한 뒤에는 Mongo를 다시 조회하지 않는다")
+    void get_loadsOnce() {
+        assertThat(cache.get(1L)).containsExactly(10L, 20L);
+        assertThat(cache.get(1L)).containsExactly(10L, 20L);
+
+        verify(repository, times(1)).findByRoomId(1L);
+    }
+
+    @Test
+    @DisplayName("참가자를 추가하면 로컬 배열에 반영하고 무효화를 전파한다")
+    void added_updatesLocalAndPublishes() {
+        // given
+        cache.get(1L);
+
+        // when
+        cache.added(1L, 30L);
+        cache.added(1L, 30L);
+
+        // then
+        assertThat(cache.get(1L)).containsExactly(10L, 20L, 30L);
+        verify(repository, times(1)).findByRoomId(1L);
+        verify(redisTemplate, times(2)).convertAndSend(eq("chat:participants:events"), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 이벤트를 받으면 다시 읽는다")
+    void onMessage_invalidates() {
+        // given
+        cache.get(1L);
+
+        // when
+        cache.onMessage(new DefaultMessage("chat:participants:events".getBytes(StandardCharsets.UTF_8),
+            "other-node 1".getBytes(StandardCharsets.UTF_8)), null);
+        cache.get(1L);
+
+        // then
+        verify(repository, times(2)).findByRoomId(1L);
+    }
+
+    private ChatParticipation participation(Long userId) {
+        return ChatParticipation.builder().userId(userId).roomId(1L).build();
+    }
+}
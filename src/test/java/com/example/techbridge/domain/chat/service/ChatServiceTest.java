@@ -0,0 +1,241 @@
+package com.example.techbridge.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.techbridge.domain.chat.dto.ChatMessageDto;
+import com.example.techbridge.domain.chat.dto.ChatReceiptDto;
+import com.example.techbridge.domain.chat.model.ChattingRoom;
+import com.example.techbridge.domain.chat.model.Message;
+import com.example.techbridge.domain.chat.repository.ChatParticipationRepository;
+import com.example.techbridge.domain.chat.repository.ChattingRoomRepository;
+import com.example.techbridge.domain.chat.repository.MessageRepository;
+import com.example.techbridge.domain.notification.dto.NotificationDto;
+import com.example.techbridge.domain.notification.service.NotificationService;
+import com.example.techbridge.global.common.SnowflakeIdGenerator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+class ChatServiceTest {
+
+    private ChattingRoomRepository chattingRoomRepository;
+    private MessageRepository messageRepository;
+    private ChatParticipationRepository chatParticipationRepository;
+    private MockProducer<String, ChatMessageDto> producer;
+    private SimpMessagingTemplate messagingTemplate;
+    private NotificationService notificationService;
+    private RoomActivityUpdater roomActivityUpdater;
+    private ChatParticipantCache chatParticipantCache;
+    private SnowflakeIdGenerator idGenerator;
+    private ChatService chatService;
+
+    @BeforeEach
+    void setUp() {
+        chattingRoomRepository = mock(ChattingRoomRepository.class);
+        messageRepository = mock(MessageRepository.class);
+        chatParticipationRepository = mock(ChatParticipationRepository.class);
+        producer = new MockProducer<>(true, new StringSerializer(), new JsonSerializer<>());
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        notificationService = mock(NotificationService.class);
+        roomActivityUpdater = mock(RoomActivityUpdater.class);
+        chatParticipantCache = mock(ChatParticipantCache.class);
+        idGenerator = mock(SnowflakeIdGenerator.class);
+        chatService = new ChatService(
+            chattingRoomRepository,
+            messageRepository,
+            chatParticipationRepository,
+            new KafkaTemplate<>(new MockProducerFactory<>(() -> producer)),
+            messagingTemplate,
+            notificationService,
+            roomActivityUpdater,
+            mock(RecentMessageCache.class),
+            chatParticipantCache,
+            idGenerator);
+    }
+
+    @Test
+    @DisplayName("같은 채팅방의 메시지는 채팅방 id를 키로 보낸 순서대로 전송한다")
+    void sendMessage_sameRoom_sameKeyInOrder() {
+        // when: 여러 채팅방의 메시지를 섞어서 전송
+        for (int seq = 0; seq < 20; seq++) {
+            for (long roomId = 1; roomId <= 5; roomId++) {
+                chatService.sendMessage(ChatMessageDto.builder()
+                    .roomId(roomId)
+                    .senderId(roomId)
+                    .message(String.valueOf(seq))
+                    .type(ChatMessageDto.MessageType.CHAT)
+                    .build());
+            }
+        }
+
+        // then
+        // 키가 같으면 프로듀서 파티셔너가 같은 파티션을 고르므로 키와 전송 순서만 확인한다
+        Map<Long, List<Integer>> sequenceByRoom = new HashMap<>();
+        for (ProducerRecord<String, ChatMessageDto> record : producer.history()) {
+            Long roomId = record.value().getRoomId();
+            assertThat(record.key()).isEqualTo(String.valueOf(roomId));
+            sequenceByRoom.computeIfAbsent(roomId, id -> new ArrayList<>())
+                .add(Integer.parseInt(record.value().getMessage()));
+        }
+
+        sequenceByRoom.values().forEach(sequence -> assertThat(sequence).isSorted().hasSize(20));
+    }
+
+    @Test
+    @DisplayName("전송이 끝나면 보낸 사람에게 서버 id가 담긴 ACK을 보내고 활동 시간 갱신은 미뤄둔다")
+    void sendMessage_ackReceipt() {
+        // given
+        when(idGenerator.nextId()).thenReturn(123L);
+
+        // when
+        chatService.sendMessage(ChatMessageDto.builder()
+            .messageId(10L)
+            .roomId(1L)
+            .senderId(7L)
+            .message("hello")
+            .type(ChatMessageDto.MessageType.CHAT)
+            .build());
+
+        // then
+        ArgumentCaptor<ChatReceiptDto> receipt = ArgumentCaptor.forClass(ChatReceiptDto.class);
+        verify(messagingTemplate).convertAndSendToUser(eq("7"), eq("/queue/receipts"),
+            receipt.capture());
+        assertThat(receipt.getValue().getStatus()).isEqualTo(ChatReceiptDto.Status.ACK);
+        assertThat(receipt.getValue().getMessageId()).isEqualTo(123L);
+        assertThat(receipt.getValue().getClientMessageId()).isEqualTo("10");
+        verify(roomActivityUpdater).touch(eq(1L), any());
+        verifyNoInteractions(chattingRoomRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("배치의 접속 여부는 한 번에 조회하고 오프라인 수신자의 새 메시지 알림은 채팅방별로 하나로 묶는다")
+    void receiveAndSendMessages_batchedNotifications() {
+        // given
+        when(chatParticipantCache.get(1L)).thenReturn(new long[]{7L, 8L, 9L});
+        when(notificationService.getOnlineUsers(any())).thenReturn(Set.of(8L));
+        when(notificationService.messageNotification(any(), any(), any(), any(), any()))
+            .thenAnswer(invocation -> NotificationDto.builder()
+                .userId(invocation.getArgument(0))
+                .roomId(invocation.getArgument(2))
+                .message(invocation.getArgument(3))
+                .type(NotificationDto.NotificationType.NEW_MESSAGE)
+                .messageCount(1)
+                .build());
+
+        ChatMessageDto first = ChatMessageDto.builder()
+            .roomId(1L)
+            .senderId(7L)
+            .message("hello")
+            .type(ChatMessageDto.MessageType.CHAT)
+            .build();
+        ChatMessageDto second = ChatMessageDto.builder()
+            .roomId(1L)
+            .senderId(7L)
+            .message("again")
+            .type(ChatMessageDto.MessageType.CHAT)
+            .build();
+
+        // when
+        chatService.receiveAndSendMessages(List.of(
+            new ConsumerRecord<>(ChatService.CHAT_TOPIC, 0, 0L, "1", first),
+            new ConsumerRecord<>(ChatService.CHAT_TOPIC, 0, 1L, "1", second)));
+
+        // then
+        verify(notificationService).getOnlineUsers(List.of(8L, 9L));
+        ArgumentCaptor<List<NotificationDto>> notifications = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).createCoalescedMessageNotifications(notifications.capture(), eq(Set.of(8L)));
+        assertThat(notifications.getValue()).hasSize(1);
+        NotificationDto notification = notifications.getValue().get(0);
+        assertThat(notification.getUserId()).isEqualTo(9L);
+        assertThat(notification.getMessage()).isEqualTo("again");
+        assertThat(notification.getMessageCount()).isEqualTo(2);
+        verify(notificationService, never()).isUserOnline(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("type이 없는 레코드는 배치를 실패시키지 않고 건너뛰고 나머지만 저장한다")
+    void receiveAndSendMessages_skipsMalformedRecord() {
+        // given
+        when(chatParticipantCache.get(1L)).thenReturn(new long[]{7L});
+
+        ChatMessageDto valid = ChatMessageDto.builder()
+            .roomId(1L)
+            .senderId(7L)
+            .message("hello")
+            .type(ChatMessageDto.MessageType.CHAT)
+            .build();
+        ChatMessageDto malformed = ChatMessageDto.builder()
+            .roomId(2L)
+            .senderId(8L)
+            .message("no type")
+            .build();
+
+        // when
+        chatService.receiveAndSendMessages(List.of(
+            new ConsumerRecord<>(ChatService.CHAT_TOPIC, 0, 0L, "2", malformed),
+            new ConsumerRecord<>(ChatService.CHAT_TOPIC, 1, 0L, "1", valid)));
+
+        // then
+        ArgumentCaptor<List<Message>> saved = ArgumentCaptor.forClass(List.class);
+        verify(messageRepository).insertAllIgnoringDuplicates(saved.capture());
+        assertThat(saved.getValue()).extracting(Message::getRoomId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("type 없이 보낸 메시지는 CHAT으로 전송한다")
+    void sendMessage_defaultsType() {
+        // when
+        chatService.sendMessage(ChatMessageDto.builder()
+            .roomId(1L)
+            .senderId(7L)
+            .message("hello")
+            .build());
+
+        // then
+        assertThat(producer.history()).singleElement()
+            .satisfies(record -> assertThat(record.value().getType()).isEqualTo(ChatMessageDto.MessageType.CHAT));
+    }
+
+    @Test
+    @DisplayName("다른 요청이 먼저 1:1 채팅방을 만들었으면 그 채팅방을 반환하고 참가자를 다시 저장하지 않는다")
+    void getOrCreatePrivateRoom_lostRace() {
+        // given
+        ChattingRoom winner = ChattingRoom.builder().roomId(-1L).pairKey("3:5").build();
+        when(chattingRoomRepository.insertPrivateRoomIfAbsent(any())).thenReturn(winner);
+
+        // when
+        ChattingRoom room = chatService.getOrCreatePrivateRoom(5L, 3L);
+
+        // then
+        assertThat(room).isSameAs(winner);
+        ArgumentCaptor<ChattingRoom> candidate = ArgumentCaptor.forClass(ChattingRoom.class);
+        verify(chattingRoomRepository).findByPairKey("3:5");
+        verify(chattingRoomRepository).insertPrivateRoomIfAbsent(candidate.capture());
+        assertThat(candidate.getValue().getPairKey()).isEqualTo("3:5");
+        verify(chatParticipationRepository, never()).save(any());
+        verifyNoInteractions(notificationService);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.techbridge.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+import com.example.techbridge.domain.chat.model.Message;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+class RecentMessageCacheTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @SuppressWarnings("unchecked")
+    private final RecentMessageCache cache = new RecentMessageCache(
+        mock(RedisTemplate.class, RETURNS_DEEP_STUBS), new ObjectMapper().findAndRegisterModules(),
+        5, 100, Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("추가된 메시지만으로 요청 건수를 채울 수 있으면 로컬에서 처리한다")
+    void find_partialBuffer() {
+        // given
+        List<Message> messages = messages(0, 3);
+        cache.append(0, 1L, messages);
+
+        // when, then
+        RecentMessageCache.Lookup lookup = cache.find(1L, 2);
+        assertThat(lookup.source()).isEqualTo(RecentMessageCache.HIT_LOCAL);
+        assertThat(lookup.messages()).extracting(Message::getContent)
+            .containsExactly("m2", "m1", "m0");
+        assertThat(cache.find(1L, 4)).isNull();
+    }
+
+    @Test
+    @DisplayName("Mongo 결과를 병합하면 중복 없이 과거 메시지가 이어진다")
+    void fill_mergesOlderMessages() {
+        // given
+        cache.append(0, 1L, messages(3, 5));
+
+        // when: Mongo에서 읽은 최신순 결과(이미 추가된 m3, m4 포함)
+        List<Message> latest = messages(0, 5).reversed();
+        cache.fill(1L, latest);
+
+        // then
+        RecentMessageCache.Lookup lookup = cache.find(1L, 4);
+        assertThat(lookup.messages()).extracting(Message::getContent)
+            .containsExactly("m4", "m3", "m2", "m1", "m0");
+    }
+
+    @Test
+    @DisplayName("재전달된 배치를 다시 추가해도 메시지가 중복되지 않는다")
+    void append_redeliveredBatch() {
+        // given
+        List<Message> batch = messages(0, 3);
+        cache.append(0, 1L, batch);
+
+        // when: 커밋 전에 재전달되어 앞 배치와 새 메시지가 함께 들어온다
+        List<Message> redelivered = new ArrayList<>(batch);
+        redelivered.addAll(messages(3, 4));
+        cache.append(0, 1L, redelivered);
+
+        // then
+        assertThat(cache.find(1L, 3).messages()).extracting(Message::getContent)
+            .containsExactly("m3", "m2", "m1", "m0");
+    }
+
+    @Test
+    @DisplayName("파티션을 잃으면 해당 버퍼를 버린다")
+    void evictPartitions() {
+        // given
+        cache.append(3, 1L, messages(0, 3));
+
+        // when
+        cache.evictPartitions(List.of(3));
+
+        // then
+        assertThat(cache.find(1L, 1)).isNull();
+    }
+
+    private List<Message> messages(int from, int to) {
+        return IntStream.range(from, to)
+            .mapToObj(i -> Message.builder()
+                .id(new ObjectId().toHexString())
+                .roomId(1L)
+                .content("m" + i)
+                .sentAt(BASE.plusSeconds(i))
+                .type(Message.MessageType.CHAT)
+                .build())
+            .toList();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.techbridge.domain.chat.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.techbridge.domain.chat.model.ChattingRoom;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+class RoomActivityUpdaterTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final BulkOperations bulkOperations = mock(BulkOperations.class);
+    private final RoomActivityUpdater updater = new RoomActivityUpdater(mongoTemplate);
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.bulkOps(BulkMode.UNORDERED, ChattingRoom.class)).thenReturn(bulkOperations);
+    }
+
+    @Test
+    @DisplayName("bulk write가 실패하면 갱신을 버리지 않고 다음 주기에 다시 보낸다")
+    void flush_failureRetried() {
+        // given
+        updater.touch(1L, AT);
+        when(bulkOperations.execute())
+            .thenThrow(new DataAccessResourceFailureException("down"))
+            .thenReturn(null);
+
+        // when
+        updater.flush();
+        updater.flush();
+
+        // then
+        verify(bulkOperations, times(2)).updateOne(any(Query.class), any(Update.class));
+    }
+
+    @Test
+    @DisplayName("반영에 성공하면 비우고 다음 주기에는 보내지 않는다")
+    void flush_successClears() {
+        // given
+        updater.touch(1L, AT);
+
+        // when
+        updater.flush();
+        updater.flush();
+
+        // then
+        verify(bulkOperations, times(1)).updateOne(any(Query.class), any(Update.class));
+        verify(bulkOperations, times(1)).execute();
+    }
+}
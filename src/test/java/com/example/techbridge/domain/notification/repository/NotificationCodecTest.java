@@ -0,0 +1,100 @@
+package com.example.techbridge.domain.notification.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.techbridge.domain.notification.dto.NotificationDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NotificationCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final NotificationCodec binary = new NotificationCodec(objectMapper, NotificationCodec.Format.BINARY);
+    private final NotificationCodec json = new NotificationCodec(objectMapper, NotificationCodec.Format.JSON);
+
+    @Test
+    @DisplayName("binary로 저장한 알림을 그대로 읽는다 (생성 시각은 ms 단위)")
+    void binary_roundTrip() {
+        NotificationDto notification = messageNotification();
+
+        NotificationDto decoded = binary.decode(binary.encode(notification));
+
+        notification.setCreatedAt(notification.getCreatedAt().truncatedTo(ChronoUnit.MILLIS));
+        assertThat(decoded).isEqualTo(notification);
+    }
+
+    @Test
+    @DisplayName("UUID가 아닌 id와 비어 있는 필드도 처리한다")
+    void binary_optionalFields() {
+        NotificationDto notification = NotificationDto.builder()
+            .notificationId("legacy-1")
+            .userId(-3L)
+            .type(NotificationDto.NotificationType.USER_LEAVE)
+            .build();
+
+        assertThat(binary.decode(binary.encode(notification))).isEqualTo(notification);
+    }
+
+    @Test
+    @DisplayName("JSON으로 저장된 기존 본문도 첫 바이트로 구분해 읽는다")
+    void decode_json() {
+        NotificationDto notification = messageNotification();
+
+        assertThat(binary.decode(json.encode(notification))).isEqualTo(notification);
+    }
+
+    @Test
+    @DisplayName("binary 본문은 JSON의 절반보다 작다")
+    void binary_smallerThanJson() {
+        NotificationDto notification = messageNotification();
+
+        int binarySize = binary.encode(notification).length;
+        int jsonSize = json.encode(notification).length;
+
+        assertThat(binarySize).isLessThan(jsonSize / 2);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 형식이나 잘린 본문은 거부한다")
+    void decode_invalid() {
+        byte[] encoded = binary.encode(messageNotification());
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 3);
+
+        assertThatThrownBy(() -> binary.decode(new byte[]{0x7F}))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> binary.decode(truncated))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 알림 종류는 IllegalArgumentException으로 거부해 조회에서 건너뛰게 한다")
+    void decode_unknownType() {
+        // 형식, 필드 비트(TYPE = 1 << 7, varint 0x80 0x01), 종류 번호 127
+        byte[] payload = {NotificationCodec.BINARY_V1, (byte) 0x80, 0x01, 0x7F};
+
+        assertThatThrownBy(() -> binary.decode(payload))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private NotificationDto messageNotification() {
+        return NotificationDto.builder()
+            .notificationId(UUID.randomUUID().toString())
+            .userId(1024L)
+            .senderId(2048L)
+            .roomId(1_735_689_600_123L)
+            .title("새 메시지")
+            .message("User2048: 내일 수업 시간 확인 부탁드려요")
+            .type(NotificationDto.NotificationType.NEW_MESSAGE)
+            .createdAt(LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_789))
+            .senderName("User2048")
+            .messageCount(3)
+            .build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.techbridge.domain.notification.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+
+class NotificationRedisRepositoryTest {
+
+    private static final String MIGRATION_DONE_KEY = "notifications:migration:legacy-v1";
+
+    private RedisTemplate<String, String> stringRedisTemplate;
+    private RedisTemplate<String, Object> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private NotificationRedisRepository repository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        redisTemplate = mock(RedisTemplate.class, RETURNS_DEEP_STUBS);
+        repository = new NotificationRedisRepository(stringRedisTemplate, redisTemplate,
+            new ObjectMapper(), mock(NotificationCodec.class));
+    }
+
+    @Test
+    @DisplayName("이전을 마친 뒤에는 기동할 때 키 공간을 다시 훑지 않는다")
+    void migrateLegacy_skipsWhenDone() {
+        // given
+        when(stringRedisTemplate.hasKey(MIGRATION_DONE_KEY)).thenReturn(true);
+
+        // when
+        int migrated = repository.migrateLegacy();
+
+        // then
+        assertThat(migrated).isZero();
+        verify(stringRedisTemplate, never()).scan(any(ScanOptions.class));
+    }
+
+    @Test
+    @DisplayName("이전 키가 남지 않으면 완료 표시를 남긴다")
+    void migrateLegacy_marksDone() {
+        // given
+        Cursor<String> empty = cursor();
+        when(stringRedisTemplate.hasKey(MIGRATION_DONE_KEY)).thenReturn(false);
+        when(stringRedisTemplate.scan(any(ScanOptions.class))).thenReturn(empty);
+
+        // when
+        repository.migrateLegacy();
+
+        // then
+        verify(valueOperations).set(MIGRATION_DONE_KEY, "1");
+    }
+
+    @Test
+    @DisplayName("옮기던 노드가 죽어 남은 :migrating 키는 다시 가져오지 않고 이어서 옮긴다")
+    void migrateLegacy_resumesClaimedKey() {
+        // given
+        Cursor<String> orphaned = cursor("notifications:user:7:migrating");
+        Cursor<String> empty = cursor();
+        when(stringRedisTemplate.hasKey(MIGRATION_DONE_KEY)).thenReturn(false);
+        when(stringRedisTemplate.scan(any(ScanOptions.class))).thenReturn(orphaned, empty);
+
+        // when
+        int migrated = repository.migrateLegacy();
+
+        // then
+        assertThat(migrated).isEqualTo(1);
+        verify(redisTemplate, never()).renameIfAbsent(anyString(), anyString());
+        verify(redisTemplate).delete("notifications:user:7:migrating");
+        verify(valueOperations).set(MIGRATION_DONE_KEY, "1");
+    }
+
+    @Test
+    @DisplayName("다 옮긴 뒤에도 이전 키가 남아 있으면 완료 표시를 남기지 않는다")
+    void migrateLegacy_keysLeft() {
+        // given
+        Cursor<String> empty = cursor();
+        Cursor<String> claimedElsewhere = cursor("notifications:user:7:migrating");
+        when(stringRedisTemplate.hasKey(MIGRATION_DONE_KEY)).thenReturn(false);
+        when(stringRedisTemplate.scan(any(ScanOptions.class))).thenReturn(empty, claimedElsewhere);
+
+        // when
+        repository.migrateLegacy();
+
+        // then
+        verify(valueOperations, never()).set(anyString(), anyString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cursor<String> cursor(String... keys) {
+        Cursor<String> cursor = mock(Cursor.class);
+        Iterator<String> iterator = List.of(keys).iterator();
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        return cursor;
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.techbridge.global.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH + 1_000_000L;
+
+    @Test
+    @DisplayName("시각, 노드, 시퀀스가 정해진 비트에 들어간다")
+    void nextId_layout() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(5, () -> NOW);
+
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertThat(SnowflakeIdGenerator.timestampOf(first).toEpochMilli()).isEqualTo(NOW);
+        assertThat((first >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID)
+            .isEqualTo(5);
+        assertThat(second).isEqualTo(first + 1);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가거나 시퀀스를 다 써도 id는 계속 증가한다")
+    void nextId_monotonic() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                clock.addAndGet(-10_000);
+            }
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발급해도 중복이 없다")
+    void nextId_concurrentUnique() throws InterruptedException {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(2, System::currentTimeMillis);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(ids).hasSize(8 * 20_000);
+    }
+
+    @Test
+    @DisplayName("노드 id 범위를 벗어나면 생성할 수 없다")
+    void constructor_invalidNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(1024, System::currentTimeMillis))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("카운터가 가리킨 노드 id를 다른 노드가 임대 중이면 비어 있는 다음 번호를 임대한다")
+    void lease_skipsTakenNodeId() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("id-generator:node")).thenReturn(1024L + 7);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.setIfAbsent(eq("id-generator:node:8"), anyString(), any(Duration.class)))
+            .thenReturn(true);
+
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(redisTemplate, -1, Duration.ofSeconds(60));
+
+        assertThat((generator.nextId() >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID)
+            .isEqualTo(8);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("모든 노드 id가 임대 중이면 번호를 겹쳐 쓰지 않고 기동에 실패한다")
+    void lease_noFreeNodeId() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("id-generator:node")).thenReturn(1L);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(redisTemplate, -1, Duration.ofSeconds(60)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("연장할 때 다른 노드가 번호를 가져갔으면 id 발급을 멈춘다")
+    void renewLease_lostStopsIssuing() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("id-generator:node")).thenReturn(3L);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(0L);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(redisTemplate, -1, Duration.ofSeconds(60));
+
+        generator.renewLease();
+
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.techbridge.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class PermitAllRoutesTest {
+
+    private final PermitAllRoutes routes = PermitAllRoutes.common()
+        .add(null, "/h2-console/**")
+        .build();
+
+    @Test
+    @DisplayName("메서드와 경로가 모두 일치해야 허용된다")
+    void matches_methodAndPath() {
+        assertThat(routes.matches(new MockHttpServletRequest("POST", "/api/members"))).isTrue();
+        assertThat(routes.matches(new MockHttpServletRequest("GET", "/api/members"))).isFalse();
+        assertThat(routes.matches(new MockHttpServletRequest("GET", "/auth/jwks"))).isTrue();
+        assertThat(routes.matches(new MockHttpServletRequest("POST", "/auth/logout"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("와일드카드 패턴과 컨텍스트 경로를 처리한다")
+    void matches_wildcardAndContextPath() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/h2-console/login.do");
+        request.setContextPath("/app");
+
+        assertThat(routes.matches(request)).isTrue();
+        assertThat(routes.matches(new MockHttpServletRequest("GET", "/h2-consoles"))).isFalse();
+    }
+}